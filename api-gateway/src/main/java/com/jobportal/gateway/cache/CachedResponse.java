@@ -0,0 +1,71 @@
+package com.jobportal.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+
+// An immutable copy of an upstream response. Freshness is stretched in place when a
+// revalidation comes back 304, so those two fields are volatile.
+public final class CachedResponse {
+
+    private final int status;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final String etag;
+    private final long weight;
+    private volatile long freshUntil;
+    private volatile long staleUntil;
+
+    public CachedResponse(int status, HttpHeaders headers, byte[] body, String etag, long freshUntil, long staleUntil) {
+        this.status = status;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        this.body = body;
+        this.etag = etag;
+        this.freshUntil = freshUntil;
+        this.staleUntil = staleUntil;
+        this.weight = estimateWeight(headers, body);
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public boolean isFresh(long now) {
+        return now < freshUntil;
+    }
+
+    public boolean isUsable(long now) {
+        return now < staleUntil;
+    }
+
+    public void extend(long freshUntil, long staleUntil) {
+        this.freshUntil = freshUntil;
+        this.staleUntil = staleUntil;
+    }
+
+    long getWeight() {
+        return weight;
+    }
+
+    // Rough heap footprint, used for the cache's byte cap
+    private static long estimateWeight(HttpHeaders headers, byte[] body) {
+        long headerChars = 0;
+        for (var entry : headers.entrySet()) {
+            headerChars += entry.getKey().length();
+            for (String value : entry.getValue()) {
+                headerChars += value.length();
+            }
+        }
+        return body.length + 2 * headerChars + 256;
+    }
+}
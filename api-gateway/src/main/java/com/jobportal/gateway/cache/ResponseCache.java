@@ -0,0 +1,71 @@
+package com.jobportal.gateway.cache;
+
+import com.jobportal.gateway.config.ResponseCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// LRU of cached responses bounded by total bytes rather than entry count, since search
+// results vary a lot in size. Also tracks which keys have a revalidation in flight, so a
+// burst of requests for a stale entry triggers only one upstream call.
+@Component
+@RequiredArgsConstructor
+public class ResponseCache {
+
+    private final ResponseCacheProperties properties;
+
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+    private long totalBytes;
+
+    public synchronized CachedResponse get(String key, long now) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && !cached.isUsable(now)) {
+            remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    public synchronized void put(String key, CachedResponse response) {
+        long weight = weight(key, response);
+        if (weight > properties.getMaxEntryBytes()) {
+            return;
+        }
+        remove(key);
+        entries.put(key, response);
+        totalBytes += weight;
+
+        // Least recently used first
+        Iterator<Map.Entry<String, CachedResponse>> it = entries.entrySet().iterator();
+        while (totalBytes > properties.getMaxBytes() && it.hasNext()) {
+            Map.Entry<String, CachedResponse> eldest = it.next();
+            totalBytes -= weight(eldest.getKey(), eldest.getValue());
+            it.remove();
+        }
+    }
+
+    public boolean startRevalidation(String key) {
+        return revalidating.add(key);
+    }
+
+    public void finishRevalidation(String key) {
+        revalidating.remove(key);
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= weight(key, removed);
+        }
+    }
+
+    private static long weight(String key, CachedResponse response) {
+        return response.getWeight() + 2L * key.length();
+    }
+}
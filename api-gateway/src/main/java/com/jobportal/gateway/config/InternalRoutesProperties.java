@@ -0,0 +1,22 @@
+package com.jobportal.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Paths meant only for service-to-service calls, which reach the services directly through
+// discovery. The gateway answers them with 404 whatever the caller's token; each entry also
+// covers everything below it.
+@Data
+@Component
+@ConfigurationProperties(prefix = "app")
+public class InternalRoutesProperties {
+
+    private List<String> internalRoutes = new ArrayList<>(List.of(
+            "/api/auth/users",
+            "/api/auth/revocations"
+    ));
+}
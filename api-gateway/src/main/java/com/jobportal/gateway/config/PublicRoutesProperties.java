@@ -0,0 +1,38 @@
+package com.jobportal.gateway.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Routes reachable without a token. Paths are matched segment by segment: "{name}" matches any
+// single segment, "{name:number}" only digits. A prefix route also matches everything below it;
+// an empty method list allows every method.
+@Data
+@Component
+@ConfigurationProperties(prefix = "app")
+public class PublicRoutesProperties {
+
+    private List<Route> publicRoutes = new ArrayList<>(List.of(
+            new Route("/api/auth/register", true, List.of()),
+            new Route("/api/auth/login", true, List.of()),
+            new Route("/api/auth/refresh", false, List.of("POST")),
+            new Route("/api/auth/refresh/revoke", false, List.of("POST")),
+            new Route("/api/jobs/search", true, List.of()),
+            new Route("/api/jobs/public", true, List.of()),
+            new Route("/api/jobs/{jobId:number}", false, List.of("GET"))
+    ));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+        private String path;
+        private boolean prefix;
+        private List<String> methods = new ArrayList<>();
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobportal.gateway.config;
+
+import com.jobportal.gateway.ratelimit.LocalRateLimitStore;
+import com.jobportal.gateway.ratelimit.RateLimitStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+    // Replaced by any other RateLimitStore bean, e.g. one shared between gateway instances
+    @Bean
+    @ConditionalOnMissingBean(RateLimitStore.class)
+    public RateLimitStore rateLimitStore(RateLimitProperties properties) {
+        return new LocalRateLimitStore(properties.getMaxKeys());
+    }
+}
@@ -0,0 +1,39 @@
+package com.jobportal.gateway.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Per-route token buckets. The first rule whose path prefix and method match applies; requests
+// matching no rule are not limited. Each client (verified user id, else IP) gets its own bucket
+// per rule, holding up to capacity requests and refilling at refillPerSecond.
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int maxKeys = 100000;
+    private boolean trustForwardedFor = false;
+
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("/api/auth/login", List.of("POST"), 10, 0.5),
+            new Rule("/api/auth/register", List.of("POST"), 5, 0.1),
+            new Rule("/api/jobs/search", List.of("GET"), 30, 5)
+    ));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private String path;
+        private List<String> methods = new ArrayList<>();
+        private int capacity;
+        private double refillPerSecond;
+    }
+}
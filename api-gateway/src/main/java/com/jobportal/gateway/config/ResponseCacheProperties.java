@@ -0,0 +1,28 @@
+package com.jobportal.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Response cache for anonymous GETs. Only paths starting with one of the route prefixes are
+// cached; freshness comes from the upstream Cache-Control header, falling back to the defaults.
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    private List<String> routes = new ArrayList<>(List.of(
+            "/api/jobs/public/",
+            "/api/jobs/search"
+    ));
+
+    private long maxBytes = 32L * 1024 * 1024;
+    private long maxEntryBytes = 1024 * 1024;
+    private long defaultTtlMs = 30000;
+    private long staleWhileRevalidateMs = 60000;
+}
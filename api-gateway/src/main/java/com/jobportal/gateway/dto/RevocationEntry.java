@@ -0,0 +1,17 @@
+package com.jobportal.gateway.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Mirrors auth-service's revocation feed entry; times are epoch milliseconds
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationEntry {
+    private Long id;
+    private String tokenId;
+    private Long userId;
+    private Long notBefore;
+    private Long expiresAt;
+}
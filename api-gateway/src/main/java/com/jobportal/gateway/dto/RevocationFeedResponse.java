@@ -0,0 +1,16 @@
+package com.jobportal.gateway.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationFeedResponse {
+    private List<RevocationEntry> entries;
+    private Long lastId;
+    private boolean hasMore;
+}
@@ -1,64 +1,79 @@
 package com.jobportal.gateway.filter;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import com.jobportal.gateway.config.InternalRoutesProperties;
+import com.jobportal.gateway.security.PublicRouteMatcher;
+import com.jobportal.gateway.security.TokenVerifier;
+import com.jobportal.gateway.security.TokenVerifier.VerifiedToken;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @Component
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final TokenVerifier tokenVerifier;
+    private final PublicRouteMatcher publicRouteMatcher;
+    private final List<String> internalRoutes;
 
-    private final List<String> openEndpoints = List.of(
-            "/api/auth/register",
-            "/api/auth/login",
-            "/api/jobs/search",
-            "/api/jobs/public"
-    );
+    // EventSource cannot send headers, so this endpoint may pass its token as a query parameter
+    private static final String MESSAGE_STREAM_PATH = "/api/messages/stream";
+    private static final String TOKEN_QUERY_PARAM = "access_token";
 
-    // Patterns that should be accessible without authentication (with dynamic IDs)
-    private final List<String> openPatterns = List.of(
-            "/api/jobs/\\d+"  // Allow access to individual jobs by ID
-    );
+    // Set once the token has been verified; unlike the X-User-Id header a client cannot forge it
+    public static final String VERIFIED_USER_ATTR = "verifiedUserId";
 
-    public AuthenticationFilter() {
+    // Downstream services trust these as the caller's identity, so only this filter may set them
+    private static final String IDENTITY_HEADER_PREFIX = "x-user-";
+
+    // Path parameters and repeated slashes, which the services' servlet container drops
+    private static final Pattern PATH_PARAMETERS = Pattern.compile(";[^/]*");
+    private static final Pattern REPEATED_SLASHES = Pattern.compile("/{2,}");
+
+    public AuthenticationFilter(TokenVerifier tokenVerifier, PublicRouteMatcher publicRouteMatcher,
+                                InternalRoutesProperties internalRoutesProperties) {
         super(Config.class);
+        this.tokenVerifier = tokenVerifier;
+        this.publicRouteMatcher = publicRouteMatcher;
+        this.internalRoutes = List.copyOf(internalRoutesProperties.getInternalRoutes());
     }
 
     @Override
     public GatewayFilter apply(Config config) {
-        return (exchange, chain) -> {
+        return (incoming, chain) -> {
+            ServerWebExchange exchange = withoutIdentityHeaders(incoming);
             ServerHttpRequest request = exchange.getRequest();
             String path = request.getURI().getPath();
             String method = request.getMethod().name();
 
-            // Check if the endpoint is public (only GET requests for job details)
-            if (isOpenEndpoint(path, method)) {
+            // Service-to-service endpoints (see app.internal-routes) are not exposed at all
+            if (isInternal(path)) {
+                return onError(exchange, "Not found", HttpStatus.NOT_FOUND);
+            }
+
+            // Check if the endpoint is public (see app.public-routes)
+            if (publicRouteMatcher.matches(path, method)) {
                 // Even for public endpoints, if token is present, extract user info
                 if (request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
                     String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
                     if (authHeader != null && authHeader.startsWith("Bearer ")) {
                         String token = authHeader.substring(7);
                         try {
-                            Claims claims = validateToken(token);
+                            VerifiedToken verified = tokenVerifier.verify(token);
+                            exchange.getAttributes().put(VERIFIED_USER_ATTR, verified.userId());
                             ServerHttpRequest modifiedRequest = request.mutate()
-                                    .header("X-User-Id", claims.getSubject())
-                                    .header("X-User-Email", claims.get("email", String.class))
-                                    .header("X-User-Role", claims.get("role", String.class))
+                                    .header("X-User-Id", verified.userId())
+                                    .header("X-User-Email", verified.email())
+                                    .header("X-User-Role", verified.role())
                                     .build();
                             return chain.filter(exchange.mutate().request(modifiedRequest).build());
                         } catch (Exception e) {
@@ -69,26 +84,36 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
                 return chain.filter(exchange);
             }
 
-            // Check for Authorization header
-            if (!request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
-                return onError(exchange, "Missing authorization header", HttpStatus.UNAUTHORIZED);
-            }
+            String token;
+            String queryToken = MESSAGE_STREAM_PATH.equals(path)
+                    ? request.getQueryParams().getFirst(TOKEN_QUERY_PARAM)
+                    : null;
+
+            if (queryToken != null && !request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+                token = queryToken;
+            } else {
+                // Check for Authorization header
+                if (!request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+                    return onError(exchange, "Missing authorization header", HttpStatus.UNAUTHORIZED);
+                }
 
-            String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-                return onError(exchange, "Invalid authorization header", HttpStatus.UNAUTHORIZED);
-            }
+                String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+                if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                    return onError(exchange, "Invalid authorization header", HttpStatus.UNAUTHORIZED);
+                }
 
-            String token = authHeader.substring(7);
+                token = authHeader.substring(7);
+            }
 
             try {
-                Claims claims = validateToken(token);
+                VerifiedToken verified = tokenVerifier.verify(token);
+                exchange.getAttributes().put(VERIFIED_USER_ATTR, verified.userId());
                 
                 // Add user info to headers for downstream services
                 ServerHttpRequest modifiedRequest = request.mutate()
-                        .header("X-User-Id", claims.getSubject())
-                        .header("X-User-Email", claims.get("email", String.class))
-                        .header("X-User-Role", claims.get("role", String.class))
+                        .header("X-User-Id", verified.userId())
+                        .header("X-User-Email", verified.email())
+                        .header("X-User-Role", verified.role())
                         .build();
 
                 return chain.filter(exchange.mutate().request(modifiedRequest).build());
@@ -98,25 +123,45 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
         };
     }
 
-    private boolean isOpenEndpoint(String path, String method) {
-        // Check exact prefix matches (always open)
-        if (openEndpoints.stream().anyMatch(path::startsWith)) {
-            return true;
+    // Compared the way the service will see the path, so "/api/auth/./users" or
+    // "/api/auth//users;x" cannot slip past
+    private boolean isInternal(String path) {
+        String normalized = StringUtils.cleanPath(
+                REPEATED_SLASHES.matcher(PATH_PARAMETERS.matcher(path).replaceAll("")).replaceAll("/"));
+        for (String route : internalRoutes) {
+            if (normalized.equals(route) || normalized.startsWith(route + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Drops any X-User-* the client sent, on public routes too: services personalise on them
+    // (e.g. isFavorite in job search), and those pages must not be answered for a forged user
+    private static ServerWebExchange withoutIdentityHeaders(ServerWebExchange exchange) {
+        if (!hasIdentityHeader(exchange.getRequest().getHeaders())) {
+            return exchange;
         }
-        // Check regex patterns - only for GET requests (viewing job details)
-        if ("GET".equalsIgnoreCase(method)) {
-            return openPatterns.stream().anyMatch(pattern -> path.matches(pattern));
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> headers.keySet().stream()
+                        .filter(AuthenticationFilter::isIdentityHeader)
+                        .toList()
+                        .forEach(headers::remove))
+                .build();
+        return exchange.mutate().request(request).build();
+    }
+
+    static boolean hasIdentityHeader(HttpHeaders headers) {
+        for (String name : headers.keySet()) {
+            if (isIdentityHeader(name)) {
+                return true;
+            }
         }
         return false;
     }
 
-    private Claims validateToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static boolean isIdentityHeader(String name) {
+        return name.toLowerCase(Locale.ROOT).startsWith(IDENTITY_HEADER_PREFIX);
     }
 
     private Mono<Void> onError(ServerWebExchange exchange, String message, HttpStatus status) {
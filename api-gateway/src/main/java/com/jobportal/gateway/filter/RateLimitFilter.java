@@ -0,0 +1,122 @@
+package com.jobportal.gateway.filter;
+
+import com.jobportal.gateway.config.RateLimitProperties;
+import com.jobportal.gateway.config.RateLimitProperties.Rule;
+import com.jobportal.gateway.ratelimit.RateLimitStore;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Must run after AuthenticationFilter so verified users are limited by id rather than by IP
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private final RateLimitProperties properties;
+    private final RateLimitStore store;
+    private final List<CompiledRule> rules;
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimitStore store) {
+        super(Config.class);
+        this.properties = properties;
+        this.store = store;
+        List<CompiledRule> compiled = new ArrayList<>();
+        for (Rule rule : properties.getRules()) {
+            compiled.add(new CompiledRule(compiled.size(), rule));
+        }
+        this.rules = compiled;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            if (!properties.isEnabled()) {
+                return chain.filter(exchange);
+            }
+
+            ServerHttpRequest request = exchange.getRequest();
+            CompiledRule rule = findRule(request.getURI().getPath(), request.getMethod().name());
+            if (rule == null) {
+                return chain.filter(exchange);
+            }
+
+            String userId = exchange.getAttribute(AuthenticationFilter.VERIFIED_USER_ATTR);
+            String client = userId != null ? "u:" + userId : "ip:" + clientIp(request);
+            long waitNanos = store.acquire(rule.index + "|" + client, rule.emissionIntervalNanos, rule.burstNanos);
+            if (waitNanos == 0) {
+                return chain.filter(exchange);
+            }
+
+            long retryAfterSeconds = Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+            exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return exchange.getResponse().setComplete();
+        };
+    }
+
+    private CompiledRule findRule(String path, String method) {
+        for (CompiledRule rule : rules) {
+            if (path.startsWith(rule.path) && rule.allows(method)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String clientIp(ServerHttpRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwarded = request.getHeaders().getFirst("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        InetSocketAddress remote = request.getRemoteAddress();
+        return remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : "unknown";
+    }
+
+    private static final class CompiledRule {
+        private final int index;
+        private final String path;
+        private final String[] methods;
+        private final long emissionIntervalNanos;
+        private final long burstNanos;
+
+        private CompiledRule(int index, Rule rule) {
+            if (rule.getCapacity() < 1 || rule.getRefillPerSecond() <= 0) {
+                throw new IllegalStateException("Rate limit for " + rule.getPath() + " needs capacity >= 1 and refillPerSecond > 0");
+            }
+            this.index = index;
+            this.path = rule.getPath();
+            this.methods = rule.getMethods() == null ? new String[0] : rule.getMethods().stream()
+                    .map(m -> m.toUpperCase(Locale.ROOT))
+                    .toArray(String[]::new);
+            this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rule.getRefillPerSecond());
+            this.burstNanos = emissionIntervalNanos * rule.getCapacity();
+        }
+
+        private boolean allows(String method) {
+            if (methods.length == 0) {
+                return true;
+            }
+            for (String allowed : methods) {
+                if (allowed.equals(method)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public static class Config {
+        // Configuration properties if needed
+    }
+}
@@ -0,0 +1,295 @@
+package com.jobportal.gateway.filter;
+
+import com.jobportal.gateway.cache.CachedResponse;
+import com.jobportal.gateway.cache.ResponseCache;
+import com.jobportal.gateway.config.ResponseCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+// Serves anonymous GETs on the configured routes from ResponseCache. Fresh entries are answered
+// locally (304 when If-None-Match matches); stale ones are still served while a single
+// background request revalidates them upstream with the cached ETag. Requests carrying a token,
+// a cookie or an X-User-* identity header always go upstream and are never stored. Runs after AuthenticationFilter and RateLimitFilter.
+@Component
+@Slf4j
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+    private static final Set<String> UNSTORED_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "set-cookie", "vary", "date", "age",
+            CACHE_STATUS_HEADER.toLowerCase(Locale.ROOT));
+
+    private final ResponseCacheProperties properties;
+    private final ResponseCache cache;
+    private final WebClient webClient;
+
+    public ResponseCacheFilter(ResponseCacheProperties properties, ResponseCache cache,
+                               ReactorLoadBalancerExchangeFilterFunction loadBalancer) {
+        super(Config.class);
+        this.properties = properties;
+        this.cache = cache;
+        this.webClient = WebClient.builder()
+                .filter(loadBalancer)
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) properties.getMaxEntryBytes()))
+                .build();
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!properties.isEnabled()
+                    || request.getMethod() != HttpMethod.GET
+                    || !isCachedRoute(request.getURI().getPath())
+                    || carriesCredentials(exchange)) {
+                return chain.filter(exchange);
+            }
+
+            String key = cacheKey(request);
+            long now = System.currentTimeMillis();
+
+            String requestCacheControl = request.getHeaders().getCacheControl();
+            boolean bypass = requestCacheControl != null
+                    && requestCacheControl.toLowerCase(Locale.ROOT).contains("no-cache");
+
+            CachedResponse cached = bypass ? null : cache.get(key, now);
+            if (cached != null) {
+                boolean fresh = cached.isFresh(now);
+                if (!fresh) {
+                    revalidate(exchange, key, cached);
+                }
+                return writeCached(exchange, cached, fresh ? "HIT" : "STALE");
+            }
+
+            exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            return chain.filter(exchange.mutate().response(new CapturingResponse(exchange.getResponse(), key)).build());
+        };
+    }
+
+    private boolean isCachedRoute(String path) {
+        for (String route : properties.getRoutes()) {
+            if (path.startsWith(route)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // AuthenticationFilter already strips forged identity headers; checking them here as well
+    // keeps a personalised page out of the shared cache if the filters are ever reordered
+    private boolean carriesCredentials(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        return request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+                || request.getHeaders().containsKey(HttpHeaders.COOKIE)
+                || AuthenticationFilter.hasIdentityHeader(request.getHeaders())
+                || exchange.getAttribute(AuthenticationFilter.VERIFIED_USER_ATTR) != null;
+    }
+
+    private static String cacheKey(ServerHttpRequest request) {
+        URI uri = request.getURI();
+        return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached, String cacheStatus) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().putAll(cached.getHeaders());
+        response.getHeaders().set(CACHE_STATUS_HEADER, cacheStatus);
+
+        String ifNoneMatch = exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+        if (cached.getEtag() != null && ifNoneMatch != null && etagMatches(ifNoneMatch, cached.getEtag())) {
+            response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatusCode.valueOf(cached.getStatus()));
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    // Weak comparison, as If-None-Match requires
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        String target = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeak(trimmed).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private void revalidate(ServerWebExchange exchange, String key, CachedResponse cached) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        // Only load-balanced routes can be called outside the request; others refresh on expiry
+        if (route == null || !"lb".equals(route.getUri().getScheme()) || !cache.startRevalidation(key)) {
+            return;
+        }
+
+        URI upstream = URI.create("http://" + route.getUri().getHost() + key);
+        webClient.get()
+                .uri(upstream)
+                .headers(headers -> {
+                    if (cached.getEtag() != null) {
+                        headers.set(HttpHeaders.IF_NONE_MATCH, cached.getEtag());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        Freshness freshness = freshness(headers, System.currentTimeMillis());
+                        if (freshness != null) {
+                            cached.extend(freshness.freshUntil(), freshness.staleUntil());
+                        }
+                        return response.releaseBody();
+                    }
+                    if (response.statusCode().value() == HttpStatus.OK.value()) {
+                        return response.bodyToMono(byte[].class)
+                                .defaultIfEmpty(new byte[0])
+                                .doOnNext(body -> store(key, HttpStatus.OK.value(), headers, body))
+                                .then();
+                    }
+                    return response.releaseBody();
+                })
+                .timeout(Duration.ofSeconds(10))
+                .doFinally(signal -> cache.finishRevalidation(key))
+                .subscribe(null, e -> log.debug("Could not revalidate {}: {}", key, e.getMessage()));
+    }
+
+    private void store(String key, int status, HttpHeaders upstreamHeaders, byte[] body) {
+        Freshness freshness = freshness(upstreamHeaders, System.currentTimeMillis());
+        if (freshness == null || upstreamHeaders.containsKey(HttpHeaders.SET_COOKIE)) {
+            return;
+        }
+
+        HttpHeaders stored = new HttpHeaders();
+        upstreamHeaders.forEach((name, values) -> {
+            String lower = name.toLowerCase(Locale.ROOT);
+            // CORS headers depend on the requesting origin and are added per request anyway
+            if (!UNSTORED_HEADERS.contains(lower) && !lower.startsWith("access-control-")) {
+                stored.put(name, values);
+            }
+        });
+        stored.setContentLength(body.length);
+
+        cache.put(key, new CachedResponse(status, stored, body, upstreamHeaders.getETag(),
+                freshness.freshUntil(), freshness.staleUntil()));
+    }
+
+    // Null when the response must not be stored
+    private Freshness freshness(HttpHeaders headers, long now) {
+        long ttlMs = properties.getDefaultTtlMs();
+        long staleMs = properties.getStaleWhileRevalidateMs();
+
+        for (String value : headers.getOrEmpty(HttpHeaders.VARY)) {
+            if (value.contains("*")) {
+                return null;
+            }
+        }
+
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            String directives = cacheControl.toLowerCase(Locale.ROOT);
+            // s-maxage is meant for shared caches like this one and wins over max-age
+            boolean shared = directives.contains("s-maxage=");
+            for (String directive : directives.split(",")) {
+                String d = directive.trim();
+                if (d.equals("no-store") || d.equals("no-cache") || d.equals("private")) {
+                    return null;
+                }
+                if (d.startsWith("s-maxage=") || (d.startsWith("max-age=") && !shared)) {
+                    ttlMs = seconds(d) * 1000;
+                } else if (d.startsWith("stale-while-revalidate=")) {
+                    staleMs = seconds(d) * 1000;
+                }
+            }
+        }
+        if (ttlMs <= 0 && staleMs <= 0) {
+            return null;
+        }
+        return new Freshness(now + ttlMs, now + ttlMs + staleMs);
+    }
+
+    private static long seconds(String directive) {
+        try {
+            return Math.max(0, Long.parseLong(directive.substring(directive.indexOf('=') + 1).trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private record Freshness(long freshUntil, long staleUntil) {
+    }
+
+    // Copies the upstream body as it streams to the client and stores it once complete;
+    // bodies that outgrow the per-entry cap are passed through without being kept
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+
+        private CapturingResponse(ServerHttpResponse delegate, String key) {
+            super(delegate);
+            this.key = key;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            if (status == null || status.value() != HttpStatus.OK.value()
+                    || freshness(getHeaders(), System.currentTimeMillis()) == null) {
+                return super.writeWith(body);
+            }
+
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            boolean[] tooLarge = {false};
+            Flux<? extends DataBuffer> teed = Flux.from(body).doOnNext(buffer -> {
+                int length = buffer.readableByteCount();
+                if (tooLarge[0] || copy.size() + length > properties.getMaxEntryBytes()) {
+                    tooLarge[0] = true;
+                    return;
+                }
+                byte[] bytes = new byte[length];
+                buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(bytes), 0, length);
+                copy.write(bytes, 0, length);
+            });
+
+            return super.writeWith(teed).doOnSuccess(done -> {
+                if (!tooLarge[0]) {
+                    store(key, status.value(), getHeaders(), copy.toByteArray());
+                }
+            });
+        }
+    }
+
+    public static class Config {
+        // Configuration properties if needed
+    }
+}
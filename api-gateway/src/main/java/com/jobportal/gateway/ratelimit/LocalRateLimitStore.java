@@ -0,0 +1,93 @@
+package com.jobportal.gateway.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Lock-free in-memory buckets: each key is a single "theoretical arrival time" updated by CAS.
+// A key whose arrival time has passed is a full bucket, so idle keys can be dropped at any time.
+public class LocalRateLimitStore implements RateLimitStore {
+
+    // A full scan costs O(keys), so it runs at most this often however many new keys arrive
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // Entries looked at per sampled eviction
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private final AtomicLong lastSweep;
+
+    public LocalRateLimitStore(int maxKeys) {
+        this(maxKeys, System::nanoTime);
+    }
+
+    // The clock is injectable so bucket behaviour can be driven deterministically
+    public LocalRateLimitStore(int maxKeys, LongSupplier clock) {
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+        this.lastSweep = new AtomicLong(clock.getAsLong() - SWEEP_INTERVAL_NANOS);
+    }
+
+    @Override
+    public long acquire(String key, long emissionIntervalNanos, long burstNanos) {
+        long now = clock.getAsLong();
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            if (buckets.size() >= maxKeys) {
+                makeRoom(now);
+            }
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    // Drops idle buckets when a sweep is due. If the store is still full (every bucket active, or
+    // swept too recently), evicts sampled buckets until there is room, so maxKeys always holds.
+    // An evicted active key starts again with a full bucket: a bounded leak, unlike the memory.
+    private void makeRoom(long now) {
+        long last = lastSweep.get();
+        if (now - last >= SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+            buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        }
+        // Loops because concurrent inserts may take the freed slot; stops if another thread
+        // removed the sampled victim first
+        while (buckets.size() >= maxKeys) {
+            if (!evictSampled()) {
+                break;
+            }
+        }
+    }
+
+    // Of a few entries, removes the one with the earliest arrival time: the closest to full,
+    // and usually the least recently used
+    private boolean evictSampled() {
+        Iterator<Map.Entry<String, AtomicLong>> entries = buckets.entrySet().iterator();
+        Map.Entry<String, AtomicLong> victim = null;
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE && entries.hasNext(); i++) {
+            Map.Entry<String, AtomicLong> entry = entries.next();
+            if (victim == null || entry.getValue().get() - victim.getValue().get() < 0) {
+                victim = entry;
+            }
+        }
+        return victim != null && buckets.remove(victim.getKey(), victim.getValue());
+    }
+}
@@ -0,0 +1,11 @@
+package com.jobportal.gateway.ratelimit;
+
+// Holds the bucket state. The default keeps it in this gateway instance; a shared store
+// (e.g. Redis running the same GCRA step as a script) can be registered as a bean instead
+// so all instances draw from the same buckets.
+public interface RateLimitStore {
+
+    // GCRA: one request costs emissionIntervalNanos, and a bucket holds burstNanos worth of
+    // requests. Returns 0 if the request is allowed, otherwise the nanos until it would be.
+    long acquire(String key, long emissionIntervalNanos, long burstNanos);
+}
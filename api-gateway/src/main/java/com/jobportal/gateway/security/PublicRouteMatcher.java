@@ -0,0 +1,178 @@
+package com.jobportal.gateway.security;
+
+import com.jobportal.gateway.config.PublicRoutesProperties;
+import com.jobportal.gateway.config.PublicRoutesProperties.Route;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// Public routes compiled into a path-segment trie at startup. Matching walks the request path
+// in place, comparing segments with regionMatches, so nothing is allocated per request.
+@Component
+@Slf4j
+public class PublicRouteMatcher {
+
+    private final Node root = new Node();
+
+    public PublicRouteMatcher(PublicRoutesProperties properties) {
+        for (Route route : properties.getPublicRoutes()) {
+            add(route);
+        }
+        log.info("Compiled {} public routes", properties.getPublicRoutes().size());
+    }
+
+    public boolean matches(String path, String method) {
+        return match(root, path, 0, method);
+    }
+
+    private boolean match(Node node, String path, int start, String method) {
+        if (node.prefix != null && node.prefix.allows(method)) {
+            return true;
+        }
+        if (start >= path.length()) {
+            return node.exact != null && node.exact.allows(method);
+        }
+        if (path.charAt(start) != '/') {
+            return false;
+        }
+
+        int segmentStart = start + 1;
+        int segmentEnd = path.indexOf('/', segmentStart);
+        if (segmentEnd < 0) {
+            segmentEnd = path.length();
+        }
+        int length = segmentEnd - segmentStart;
+
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == length
+                    && path.regionMatches(segmentStart, literal, 0, length)
+                    && match(node.literalChildren[i], path, segmentEnd, method)) {
+                return true;
+            }
+        }
+        if (length == 0) {
+            return false;
+        }
+        if (node.numberChild != null && isNumber(path, segmentStart, segmentEnd)
+                && match(node.numberChild, path, segmentEnd, method)) {
+            return true;
+        }
+        return node.anyChild != null && match(node.anyChild, path, segmentEnd, method);
+    }
+
+    private static boolean isNumber(String path, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = path.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(Route route) {
+        if (route.getPath() == null || !route.getPath().startsWith("/")) {
+            throw new IllegalStateException("Public route path must start with '/': " + route.getPath());
+        }
+
+        Node node = root;
+        for (String segment : route.getPath().substring(1).split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            node = node.child(segment);
+        }
+
+        Methods methods = new Methods(route.getMethods());
+        if (route.isPrefix()) {
+            node.prefix = node.prefix == null ? methods : node.prefix.merge(methods);
+        } else {
+            node.exact = node.exact == null ? methods : node.exact.merge(methods);
+        }
+    }
+
+    private static final class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node numberChild;
+        private Node anyChild;
+        private Methods exact;
+        private Methods prefix;
+
+        private Node child(String segment) {
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                String spec = segment.substring(1, segment.length() - 1);
+                int colon = spec.indexOf(':');
+                String type = colon < 0 ? "" : spec.substring(colon + 1);
+                switch (type) {
+                    case "" -> {
+                        if (anyChild == null) {
+                            anyChild = new Node();
+                        }
+                        return anyChild;
+                    }
+                    case "number" -> {
+                        if (numberChild == null) {
+                            numberChild = new Node();
+                        }
+                        return numberChild;
+                    }
+                    default -> throw new IllegalStateException("Unknown path segment type: " + segment);
+                }
+            }
+
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
+        }
+    }
+
+    // An empty set means every method is allowed
+    private static final class Methods {
+        private final String[] names;
+
+        private Methods(Iterable<String> methods) {
+            Set<String> upper = new LinkedHashSet<>();
+            if (methods != null) {
+                for (String method : methods) {
+                    upper.add(method.toUpperCase(Locale.ROOT));
+                }
+            }
+            this.names = upper.toArray(new String[0]);
+        }
+
+        private boolean allows(String method) {
+            if (names.length == 0) {
+                return true;
+            }
+            for (String name : names) {
+                if (name.equals(method)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Methods merge(Methods other) {
+            if (names.length == 0 || other.names.length == 0) {
+                return new Methods(null);
+            }
+            Set<String> union = new LinkedHashSet<>(Arrays.asList(names));
+            union.addAll(Arrays.asList(other.names));
+            return new Methods(union);
+        }
+    }
+}
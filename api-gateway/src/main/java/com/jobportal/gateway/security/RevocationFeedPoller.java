@@ -0,0 +1,104 @@
+package com.jobportal.gateway.security;
+
+import com.jobportal.gateway.dto.RevocationFeedResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+// Keeps RevocationList current by long-polling auth-service: each poll is parked there until
+// something is revoked, so new revocations arrive within one round trip. Identity ids can
+// commit out of order, so the whole list is reloaded every resync-ms to pick up anything the
+// cursor skipped past.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationFeedPoller {
+
+    private final RevocationList revocationList;
+    private final ReactorLoadBalancerExchangeFilterFunction loadBalancer;
+
+    @Value("${app.revocations.feed-url:http://AUTH-SERVICE/api/auth/revocations}")
+    private String feedUrl;
+
+    @Value("${app.revocations.wait-ms:25000}")
+    private long waitMs;
+
+    @Value("${app.revocations.retry-ms:2000}")
+    private long retryMs;
+
+    @Value("${app.revocations.resync-ms:300000}")
+    private long resyncMs;
+
+    private WebClient webClient;
+    private volatile boolean stopped;
+    private volatile Disposable inFlight;
+
+    // Only touched by the poll loop, which never has more than one request outstanding
+    private long cursor;
+    private long nextResyncAt;
+    private RevocationList.Snapshot pending;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        webClient = WebClient.builder().filter(loadBalancer).build();
+        poll();
+    }
+
+    @PreDestroy
+    void stop() {
+        stopped = true;
+        Disposable request = inFlight;
+        if (request != null) {
+            request.dispose();
+        }
+    }
+
+    private void poll() {
+        if (stopped) {
+            return;
+        }
+        if (pending == null && System.currentTimeMillis() >= nextResyncAt) {
+            pending = revocationList.newSnapshot();
+            cursor = 0;
+        }
+        // Pages of a resync are fetched back to back; only an up-to-date cursor waits
+        long wait = pending != null ? 0 : waitMs;
+
+        inFlight = webClient.get()
+                .uri(feedUrl + "?after={after}&waitMs={waitMs}", cursor, wait)
+                .retrieve()
+                .bodyToMono(RevocationFeedResponse.class)
+                .switchIfEmpty(Mono.error(new IllegalStateException("Empty revocation feed response")))
+                .timeout(Duration.ofMillis(wait + 10000))
+                .subscribe(feed -> {
+                    apply(feed);
+                    poll();
+                }, e -> {
+                    log.warn("Could not poll revocation feed: {}", e.getMessage());
+                    inFlight = Mono.delay(Duration.ofMillis(retryMs)).subscribe(tick -> poll());
+                });
+    }
+
+    private void apply(RevocationFeedResponse feed) {
+        RevocationList.Snapshot target = pending != null ? pending : revocationList.current();
+        revocationList.apply(target, feed.getEntries());
+        cursor = feed.getLastId();
+
+        if (pending != null && !feed.isHasMore()) {
+            revocationList.replace(pending);
+            log.info("Loaded {} token revocations", pending.size());
+            pending = null;
+            nextResyncAt = System.currentTimeMillis() + resyncMs;
+        }
+    }
+}
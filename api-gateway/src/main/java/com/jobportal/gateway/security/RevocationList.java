@@ -0,0 +1,133 @@
+package com.jobportal.gateway.security;
+
+import com.jobportal.gateway.dto.RevocationEntry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Local copy of auth-service's revocations, so checking a token never leaves the gateway.
+// Revoked token ids sit behind a Bloom filter: almost every lookup is a miss and is answered
+// from the bit array alone, hits are confirmed against the exact set. Per-user cut-offs revoke
+// every token issued at or before them. Kept up to date by RevocationFeedPoller; until its first
+// load completes nothing is treated as revoked.
+@Component
+public class RevocationList {
+
+    @Value("${app.revocations.expected-entries:100000}")
+    private long expectedEntries;
+
+    @Value("${app.revocations.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private long bitCount;
+    private int hashCount;
+
+    private volatile Snapshot current;
+
+    @PostConstruct
+    void init() {
+        double ln2 = Math.log(2);
+        bitCount = Math.max(64, (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        bitCount = (bitCount + 63) & ~63L;
+        hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * ln2));
+        current = newSnapshot();
+    }
+
+    public boolean isRevoked(String tokenId, String userId, long issuedAt) {
+        Snapshot snapshot = current;
+        if (userId != null && !snapshot.userCutoffs.isEmpty()) {
+            Long cutoff = snapshot.userCutoffs.get(userId);
+            // Inclusive: iat and the cut-off are both whole seconds, so equal means same second
+            if (cutoff != null && issuedAt <= cutoff) {
+                return true;
+            }
+        }
+        return tokenId != null && snapshot.mightContain(tokenId) && snapshot.tokens.containsKey(tokenId);
+    }
+
+    Snapshot newSnapshot() {
+        return new Snapshot(new AtomicLongArray((int) (bitCount >>> 6)));
+    }
+
+    Snapshot current() {
+        return current;
+    }
+
+    // A full resync builds a fresh snapshot and swaps it in, which also drops expired entries
+    // and clears their bits from the filter
+    void replace(Snapshot snapshot) {
+        current = snapshot;
+    }
+
+    void apply(Snapshot snapshot, List<RevocationEntry> entries) {
+        for (RevocationEntry entry : entries) {
+            if (entry.getTokenId() != null) {
+                snapshot.tokens.put(entry.getTokenId(), entry.getExpiresAt());
+                snapshot.put(entry.getTokenId());
+            }
+            if (entry.getNotBefore() != null) {
+                snapshot.userCutoffs.merge(String.valueOf(entry.getUserId()), entry.getNotBefore(), Math::max);
+            }
+        }
+    }
+
+    final class Snapshot {
+        private final AtomicLongArray bits;
+        private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+        private final Map<String, Long> userCutoffs = new ConcurrentHashMap<>();
+
+        private Snapshot(AtomicLongArray bits) {
+            this.bits = bits;
+        }
+
+        int size() {
+            return tokens.size() + userCutoffs.size();
+        }
+
+        private boolean mightContain(String tokenId) {
+            long h1 = hash(tokenId);
+            long h2 = mix(h1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(String tokenId) {
+            long h1 = hash(tokenId);
+            long h2 = mix(h1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                bits.getAndAccumulate((int) (bit >>> 6), 1L << bit, (word, mask) -> word | mask);
+            }
+        }
+    }
+
+    // FNV-1a over the characters, then the MurmurHash3 finalizer to spread the bits
+    private static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
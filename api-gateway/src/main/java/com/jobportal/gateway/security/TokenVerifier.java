@@ -0,0 +1,106 @@
+package com.jobportal.gateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// Verifies JWTs with a key and parser built once at startup. Tokens that verified recently are
+// remembered by digest, so a session presenting the same token repeatedly is only parsed once.
+// Revocation is checked on every call, cached or not. The cache evicts in amortised constant
+// time, so a full cache costs nothing extra on the event loop.
+@Component
+@RequiredArgsConstructor
+public class TokenVerifier {
+
+    private final RevocationList revocationList;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Value("${jwt.cache.max-size:50000}")
+    private int cacheMaxSize;
+
+    @Value("${jwt.cache.ttl-ms:60000}")
+    private long cacheTtlMs;
+
+    private Cache<String, CachedToken> cache;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtlMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    // Throws JwtException if the token is malformed, tampered with, expired or revoked
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken verified;
+        CachedToken cached = cache.getIfPresent(digest);
+        if (cached != null && cached.token().expiresAt() <= now) {
+            cache.invalidate(digest);
+            throw new JwtException("Token expired");
+        }
+        if (cached != null && cached.cachedUntil() > now) {
+            verified = cached.token();
+        } else {
+            verified = parse(token);
+            // Never trust a cached entry past the token's own expiry
+            cache.put(digest, new CachedToken(verified, Math.min(now + cacheTtlMs, verified.expiresAt())));
+        }
+
+        if (revocationList.isRevoked(verified.tokenId(), verified.userId(), verified.issuedAt())) {
+            throw new JwtException("Token revoked");
+        }
+        return verified;
+    }
+
+    private VerifiedToken parse(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getId(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0,
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record VerifiedToken(String userId, String email, String role, String tokenId,
+                                long issuedAt, long expiresAt) {
+    }
+
+    private record CachedToken(VerifiedToken token, long cachedUntil) {
+    }
+}
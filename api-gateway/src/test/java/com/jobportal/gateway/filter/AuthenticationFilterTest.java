@@ -0,0 +1,83 @@
+package com.jobportal.gateway.filter;
+
+import com.jobportal.gateway.config.InternalRoutesProperties;
+import com.jobportal.gateway.config.PublicRoutesProperties;
+import com.jobportal.gateway.security.PublicRouteMatcher;
+import com.jobportal.gateway.security.TokenVerifier;
+import com.jobportal.gateway.security.TokenVerifier.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthenticationFilterTest {
+
+    private static final String TOKEN = "signed-in-user-token";
+
+    private final TokenVerifier tokenVerifier = mock(TokenVerifier.class);
+
+    private final GatewayFilter filter = new AuthenticationFilter(
+            tokenVerifier, new PublicRouteMatcher(new PublicRoutesProperties()), new InternalRoutesProperties())
+            .apply(new AuthenticationFilter.Config());
+
+    // Even a valid token does not open the service-to-service endpoints
+    @ParameterizedTest
+    @CsvSource({
+            "/api/auth/users/7, GET",
+            "/api/auth/users/batch, POST",
+            "/api/auth/revocations, GET",
+            "/api/auth//users/batch, POST",
+            "/api/auth/./users/7, GET",
+            "/api/auth/me/../users/7, GET",
+            "/api/auth/users;v=1/batch, POST",
+    })
+    void internalRoutesAreNotFound(String path, String method) {
+        when(tokenVerifier.verify(anyString()))
+                .thenReturn(new VerifiedToken("42", "seeker@example.com", "JOB_SEEKER", "jti", 0, Long.MAX_VALUE));
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .method(HttpMethod.valueOf(method), path)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+        AtomicBoolean forwarded = new AtomicBoolean();
+
+        filter.filter(exchange, forwardedExchange -> {
+            forwarded.set(true);
+            return Mono.empty();
+        }).block();
+
+        assertThat(forwarded).isFalse();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void similarlyNamedPathsAreStillRouted() {
+        when(tokenVerifier.verify(anyString()))
+                .thenReturn(new VerifiedToken("42", "seeker@example.com", "JOB_SEEKER", "jti", 0, Long.MAX_VALUE));
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/api/auth/users-guide")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+        AtomicBoolean forwarded = new AtomicBoolean();
+
+        filter.filter(exchange, forwardedExchange -> {
+            forwarded.set(true);
+            assertThat(forwardedExchange.getRequest().getHeaders().getFirst("X-User-Id")).isEqualTo("42");
+            return Mono.empty();
+        }).block();
+
+        assertThat(forwarded).isTrue();
+    }
+}
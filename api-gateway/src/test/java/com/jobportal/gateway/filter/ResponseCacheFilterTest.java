@@ -0,0 +1,115 @@
+package com.jobportal.gateway.filter;
+
+import com.jobportal.gateway.cache.ResponseCache;
+import com.jobportal.gateway.config.InternalRoutesProperties;
+import com.jobportal.gateway.config.PublicRoutesProperties;
+import com.jobportal.gateway.config.ResponseCacheProperties;
+import com.jobportal.gateway.security.PublicRouteMatcher;
+import com.jobportal.gateway.security.TokenVerifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// A client-supplied X-User-Id on a cached public route must not get a personalised page into the
+// shared cache, nor be answered with one
+class ResponseCacheFilterTest {
+
+    private static final String SEARCH = "/api/jobs/search?keyword=java";
+
+    private final List<String> upstreamUserIds = new ArrayList<>();
+
+    private final GatewayFilter authenticationFilter = new AuthenticationFilter(
+            mock(TokenVerifier.class), new PublicRouteMatcher(new PublicRoutesProperties()),
+            new InternalRoutesProperties())
+            .apply(new AuthenticationFilter.Config());
+
+    private final GatewayFilter responseCacheFilter = new ResponseCacheFilter(
+            new ResponseCacheProperties(), new ResponseCache(new ResponseCacheProperties()),
+            mock(ReactorLoadBalancerExchangeFilterFunction.class))
+            .apply(new ResponseCacheFilter.Config());
+
+    // Stands in for job-service: personalises the page on X-User-Id, as searchJobs does with isFavorite
+    private final GatewayFilterChain jobService = exchange -> {
+        String userId = exchange.getRequest().getHeaders().getFirst("X-User-Id");
+        upstreamUserIds.add(userId);
+        String body = userId == null ? "{\"favorites\":[]}" : "{\"favorites\":[\"user " + userId + "\"]}";
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setCacheControl("max-age=60");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+    };
+
+    @Test
+    void forgedIdentityHeaderIsStrippedBeforeTheCache() {
+        MockServerWebExchange forged = get(SEARCH, "42");
+        throughGateway(forged);
+
+        // job-service never saw the forged id, so the page it returned (and the cache kept) is generic
+        assertThat(upstreamUserIds).containsExactly((String) null);
+        assertThat(forged.getResponse().getBodyAsString().block()).doesNotContain("user 42");
+
+        MockServerWebExchange anonymous = get(SEARCH, null);
+        throughGateway(anonymous);
+
+        assertThat(anonymous.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(anonymous.getResponse().getBodyAsString().block()).doesNotContain("user 42");
+    }
+
+    @Test
+    void identityHeaderReachingTheCacheIsTreatedAsACredential() {
+        // Without AuthenticationFilter in front, e.g. if the filters were reordered
+        MockServerWebExchange forged = get(SEARCH, "42");
+        responseCacheFilter.filter(forged, jobService).block();
+
+        assertThat(forged.getResponse().getHeaders().getFirst("X-Cache")).isNull();
+        assertThat(forged.getResponse().getBodyAsString().block()).contains("user 42");
+
+        // Not stored: the next anonymous request misses and goes upstream
+        MockServerWebExchange anonymous = get(SEARCH, null);
+        responseCacheFilter.filter(anonymous, jobService).block();
+
+        assertThat(anonymous.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(anonymous.getResponse().getBodyAsString().block()).doesNotContain("user 42");
+        assertThat(upstreamUserIds).containsExactly("42", null);
+    }
+
+    @Test
+    void cachedPageIsNotServedToAForgedIdentityHeader() {
+        throughGateway(get(SEARCH, null));
+
+        // Even without AuthenticationFilter, a request with an identity header bypasses the cache
+        MockServerWebExchange forged = get(SEARCH, "42");
+        responseCacheFilter.filter(forged, jobService).block();
+
+        assertThat(forged.getResponse().getHeaders().getFirst("X-Cache")).isNull();
+        assertThat(upstreamUserIds).containsExactly(null, "42");
+    }
+
+    private void throughGateway(MockServerWebExchange exchange) {
+        authenticationFilter.filter(exchange, authenticated -> responseCacheFilter.filter(authenticated, jobService))
+                .block();
+    }
+
+    private static MockServerWebExchange get(String uri, String userId) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(uri);
+        if (userId != null) {
+            request.header("X-User-Id", userId);
+        }
+        return MockServerWebExchange.from(request.header(HttpHeaders.ACCEPT, "application/json"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.jobportal.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimitStoreTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BURST = 2 * INTERVAL;
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void allowsTheBurstThenReportsTheWait() {
+        LocalRateLimitStore store = new LocalRateLimitStore(10, now::get);
+
+        assertThat(store.acquire("a", INTERVAL, BURST)).isZero();
+        assertThat(store.acquire("a", INTERVAL, BURST)).isZero();
+        assertThat(store.acquire("a", INTERVAL, BURST)).isEqualTo(INTERVAL);
+
+        now.addAndGet(INTERVAL);
+        assertThat(store.acquire("a", INTERVAL, BURST)).isZero();
+    }
+
+    @Test
+    void staysBoundedWhenEveryBucketIsActive() {
+        LocalRateLimitStore store = new LocalRateLimitStore(100, now::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            store.acquire("client-" + i, INTERVAL, BURST);
+        }
+
+        assertThat(store.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void sweepsIdleBucketsAtMostOncePerInterval() {
+        LocalRateLimitStore store = new LocalRateLimitStore(10, now::get);
+        fill(store, "first-", 10);
+
+        // All idle, and no sweep has run yet: one new key clears them
+        now.addAndGet(INTERVAL);
+        store.acquire("new-1", INTERVAL, BURST);
+        assertThat(store.size()).isEqualTo(1);
+
+        // Idle again shortly after; the sweep is not due, so only a sampled bucket makes room
+        fill(store, "second-", 9);
+        now.addAndGet(INTERVAL);
+        store.acquire("new-2", INTERVAL, BURST);
+        assertThat(store.size()).isEqualTo(10);
+
+        // Once the interval has passed the next full store sweeps again
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        store.acquire("new-3", INTERVAL, BURST);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedOfTheSample() {
+        LocalRateLimitStore store = new LocalRateLimitStore(3, now::get);
+        store.acquire("old", INTERVAL, BURST);
+        now.addAndGet(1);
+        store.acquire("busy-1", INTERVAL, BURST);
+        store.acquire("busy-2", INTERVAL, BURST);
+
+        // A sweep is due but nothing is idle, so a sampled bucket goes: "old" is the closest to full
+        store.acquire("new", INTERVAL, BURST);
+
+        assertThat(store.size()).isEqualTo(3);
+        // busy-1 kept its state: one request left in its burst, then a wait
+        assertThat(store.acquire("busy-1", INTERVAL, BURST)).isZero();
+        assertThat(store.acquire("busy-1", INTERVAL, BURST)).isPositive();
+        // Evicted keys come back with a full bucket
+        assertThat(store.acquire("old", INTERVAL, BURST)).isZero();
+    }
+
+    private static void fill(LocalRateLimitStore store, String prefix, int count) {
+        for (int i = 0; i < count; i++) {
+            store.acquire(prefix + i, INTERVAL, BURST);
+        }
+    }
+}
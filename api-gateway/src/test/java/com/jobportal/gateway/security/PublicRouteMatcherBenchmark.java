@@ -0,0 +1,79 @@
+package com.jobportal.gateway.security;
+
+import com.jobportal.gateway.config.PublicRoutesProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Public-route check for a mix of public and protected paths, against the old startsWith list
+// plus regex. Runs with the GC profiler: gc.alloc.rate.norm for match should be ~0 B/op.
+// Run main() on the test classpath; not part of the unit test suite.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicRouteMatcherBenchmark {
+
+    static final String[] PATHS = {
+            "/api/jobs/public/active",
+            "/api/jobs/search",
+            "/api/jobs/12345",
+            "/api/jobs/12345/requirements",
+            "/api/applications/my-applications",
+            "/api/messages/conversations",
+            "/api/auth/login",
+            "/api/auth/me",
+    };
+    static final String[] METHODS = {"GET", "GET", "GET", "GET", "GET", "GET", "POST", "GET"};
+
+    private static final List<String> LEGACY_OPEN_ENDPOINTS = List.of(
+            "/api/auth/register", "/api/auth/login", "/api/jobs/search", "/api/jobs/public");
+
+    private PublicRouteMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        matcher = new PublicRouteMatcher(new PublicRoutesProperties());
+    }
+
+    @Benchmark
+    public void match(Blackhole blackhole) {
+        for (int i = 0; i < PATHS.length; i++) {
+            blackhole.consume(matcher.matches(PATHS[i], METHODS[i]));
+        }
+    }
+
+    @Benchmark
+    public void legacyMatch(Blackhole blackhole) {
+        for (int i = 0; i < PATHS.length; i++) {
+            String path = PATHS[i];
+            boolean open = LEGACY_OPEN_ENDPOINTS.stream().anyMatch(path::startsWith)
+                    || ("GET".equalsIgnoreCase(METHODS[i]) && path.matches("/api/jobs/\\d+"));
+            blackhole.consume(open);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PublicRouteMatcherBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
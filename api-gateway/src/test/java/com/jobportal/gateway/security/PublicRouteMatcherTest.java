@@ -0,0 +1,140 @@
+package com.jobportal.gateway.security;
+
+import com.jobportal.gateway.config.PublicRoutesProperties;
+import com.jobportal.gateway.config.PublicRoutesProperties.Route;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PublicRouteMatcherTest {
+
+    private final PublicRouteMatcher matcher = new PublicRouteMatcher(new PublicRoutesProperties());
+
+    // The route table AuthenticationFilter used before routes became configurable
+    private static final List<String> LEGACY_OPEN_ENDPOINTS = List.of(
+            "/api/auth/register", "/api/auth/login", "/api/jobs/search", "/api/jobs/public");
+    private static final String LEGACY_OPEN_PATTERN = "/api/jobs/\\d+";
+
+    private static boolean legacyMatches(String path, String method) {
+        if (LEGACY_OPEN_ENDPOINTS.stream().anyMatch(path::startsWith)) {
+            return true;
+        }
+        return "GET".equalsIgnoreCase(method) && path.matches(LEGACY_OPEN_PATTERN);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "/api/auth/register, POST",
+            "/api/auth/register/, POST",
+            "/api/auth/login, POST",
+            "/api/auth/login, GET",
+            "/api/auth/me, GET",
+            "/api/auth/users/7, GET",
+            "/api/jobs/search, GET",
+            "/api/jobs/search/advanced, GET",
+            "/api/jobs/public, GET",
+            "/api/jobs/public/active, GET",
+            "/api/jobs/public/latest, GET",
+            "/api/jobs/public/locations, POST",
+            "/api/jobs/123, GET",
+            "/api/jobs/123, PUT",
+            "/api/jobs/123, DELETE",
+            "/api/jobs/123/, GET",
+            "/api/jobs/123/requirements, GET",
+            "/api/jobs/abc, GET",
+            "/api/jobs/12a, GET",
+            "/api/jobs/, GET",
+            "/api/jobs, GET",
+            "/api/jobs, POST",
+            "/api/jobs/employer/my-jobs, GET",
+            "/api/jobs/favorites, GET",
+            "/api/applications, POST",
+            "/api/messages/stream, GET",
+            "/, GET",
+    })
+    void agreesWithLegacyRouteTable(String path, String method) {
+        assertThat(matcher.matches(path, method))
+                .as("%s %s", method, path)
+                .isEqualTo(legacyMatches(path, method));
+    }
+
+    // Prefix routes used to be plain startsWith, which also opened unrelated sibling paths
+    @ParameterizedTest
+    @CsvSource({
+            "/api/auth/registerAdmin, POST",
+            "/api/auth/login-history, GET",
+            "/api/jobs/searchable, GET",
+            "/api/jobs/publicity, GET",
+    })
+    void prefixRoutesStopAtSegmentBoundaries(String path, String method) {
+        assertThat(legacyMatches(path, method)).isTrue();
+        assertThat(matcher.matches(path, method)).isFalse();
+    }
+
+    @Test
+    void refreshIsPublicForPostOnly() {
+        assertThat(matcher.matches("/api/auth/refresh", "POST")).isTrue();
+        assertThat(matcher.matches("/api/auth/refresh", "GET")).isFalse();
+        assertThat(matcher.matches("/api/auth/refresh/extra", "POST")).isFalse();
+    }
+
+    @Test
+    void matchesConfiguredVariablesAndMergesMethods() {
+        PublicRoutesProperties properties = new PublicRoutesProperties();
+        properties.setPublicRoutes(List.of(
+                new Route("/api/companies/{slug}/jobs", false, List.of("get")),
+                new Route("/api/companies/{slug}/jobs", false, List.of("HEAD")),
+                new Route("/api/docs", true, List.of())));
+        PublicRouteMatcher configured = new PublicRouteMatcher(properties);
+
+        assertThat(configured.matches("/api/companies/acme/jobs", "GET")).isTrue();
+        assertThat(configured.matches("/api/companies/acme/jobs", "HEAD")).isTrue();
+        assertThat(configured.matches("/api/companies/acme/jobs", "POST")).isFalse();
+        assertThat(configured.matches("/api/companies//jobs", "GET")).isFalse();
+        assertThat(configured.matches("/api/companies/acme/jobs/1", "GET")).isFalse();
+        assertThat(configured.matches("/api/docs/swagger/index.html", "DELETE")).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidRoutes() {
+        PublicRoutesProperties relative = new PublicRoutesProperties();
+        relative.setPublicRoutes(List.of(new Route("api/jobs", true, List.of())));
+        assertThatThrownBy(() -> new PublicRouteMatcher(relative)).isInstanceOf(IllegalStateException.class);
+
+        PublicRoutesProperties unknownType = new PublicRoutesProperties();
+        unknownType.setPublicRoutes(List.of(new Route("/api/jobs/{id:uuid}", false, List.of())));
+        assertThatThrownBy(() -> new PublicRouteMatcher(unknownType)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void matchingDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        String[] paths = PublicRouteMatcherBenchmark.PATHS;
+        String[] methods = PublicRouteMatcherBenchmark.METHODS;
+        int iterations = 100_000;
+        int matched = 0;
+        for (int i = 0; i < iterations; i++) {
+            matched += matcher.matches(paths[i % paths.length], methods[i % methods.length]) ? 1 : 0;
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            matched += matcher.matches(paths[i % paths.length], methods[i % methods.length]) ? 1 : 0;
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(matched).isPositive();
+        // Leaves room for the measurement call itself, not for anything per match
+        assertThat(allocated).isLessThan(1024);
+    }
+}
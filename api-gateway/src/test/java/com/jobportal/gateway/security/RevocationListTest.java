@@ -0,0 +1,38 @@
+package com.jobportal.gateway.security;
+
+import com.jobportal.gateway.dto.RevocationEntry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationListTest {
+
+    // Logout-all at 12:00:00.700 is stored as 12:00:00; a token issued at 12:00:00.300 carries
+    // iat 12:00:00 as well
+    private static final long CUTOFF = 1_700_000_000_000L;
+
+    @Test
+    void cutOffCoversTokensIssuedEarlierInTheSameSecond() {
+        RevocationList revocationList = revocationList(new RevocationEntry(1L, null, 7L, CUTOFF, CUTOFF + 3_600_000));
+
+        assertThat(revocationList.isRevoked("earlier", "7", CUTOFF - 1_000)).isTrue();
+        assertThat(revocationList.isRevoked("same-second", "7", CUTOFF)).isTrue();
+        assertThat(revocationList.isRevoked("next-second", "7", CUTOFF + 1_000)).isFalse();
+        assertThat(revocationList.isRevoked("other-user", "8", CUTOFF)).isFalse();
+    }
+
+    private static RevocationList revocationList(RevocationEntry... entries) {
+        RevocationList revocationList = new RevocationList();
+        ReflectionTestUtils.setField(revocationList, "expectedEntries", 1_000L);
+        ReflectionTestUtils.setField(revocationList, "falsePositiveRate", 0.001);
+        revocationList.init();
+
+        RevocationList.Snapshot snapshot = revocationList.newSnapshot();
+        revocationList.apply(snapshot, List.of(entries));
+        revocationList.replace(snapshot);
+        return revocationList;
+    }
+}
@@ -0,0 +1,100 @@
+package com.jobportal.gateway.security;
+
+import com.jobportal.gateway.security.TokenVerifier.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Cost of verifying one token: a digest-cache hit, a cold parse with the parser built once, and
+// the old per-request path that rebuilt the key and parser every time. Run main() on the test
+// classpath; not part of the unit test suite.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerifierBenchmark {
+
+    static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private TokenVerifier cachingVerifier;
+    private TokenVerifier parsingVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingVerifier = verifier(60_000);
+        // Entries are stale as soon as they are written, so every call parses
+        parsingVerifier = verifier(0);
+
+        long now = System.currentTimeMillis();
+        token = Jwts.builder()
+                .subject("42")
+                .claim("email", "seeker@example.com")
+                .claim("role", "JOB_SEEKER")
+                .id(UUID.randomUUID().toString())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key())
+                .compact();
+        cachingVerifier.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cacheHit() {
+        return cachingVerifier.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken coldParse() {
+        return parsingVerifier.verify(token);
+    }
+
+    @Benchmark
+    public Claims parserPerRequest() {
+        return Jwts.parser().verifyWith(key()).build().parseSignedClaims(token).getPayload();
+    }
+
+    static TokenVerifier verifier(long cacheTtlMs) {
+        RevocationList revocationList = new RevocationList();
+        ReflectionTestUtils.setField(revocationList, "expectedEntries", 100_000L);
+        ReflectionTestUtils.setField(revocationList, "falsePositiveRate", 0.001);
+        revocationList.init();
+
+        TokenVerifier verifier = new TokenVerifier(revocationList);
+        ReflectionTestUtils.setField(verifier, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(verifier, "cacheMaxSize", 50_000);
+        ReflectionTestUtils.setField(verifier, "cacheTtlMs", cacheTtlMs);
+        verifier.init();
+        return verifier;
+    }
+
+    private static SecretKey key() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TokenVerifierBenchmark.class.getSimpleName()).build()).run();
+    }
+}
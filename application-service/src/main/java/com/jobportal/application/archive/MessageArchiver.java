@@ -0,0 +1,99 @@
+package com.jobportal.application.archive;
+
+import com.jobportal.application.entity.ArchivedMessage;
+import com.jobportal.application.entity.Message;
+import com.jobportal.application.repository.ArchivedMessageRepository;
+import com.jobportal.application.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Moves read messages older than the archive horizon out of the hot messages table into
+// compressed messages_archive rows, in small batches so no transaction holds locks for long.
+// Unread messages stay hot so unread counts and mark-as-read only ever touch one table.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MessageArchiver {
+
+    private final MessageRepository messageRepository;
+    private final ArchivedMessageRepository archivedMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.messages.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.messages.archive.after-days:180}")
+    private int afterDays;
+
+    @Value("${app.messages.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.messages.archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    // Every archived message was sent before this point, so reads that stay newer
+    // than it never need to look at the archive
+    public LocalDateTime horizon() {
+        return LocalDateTime.now().minusDays(afterDays);
+    }
+
+    @Scheduled(initialDelayString = "${app.messages.archive.initial-delay-ms:300000}",
+               fixedDelayString = "${app.messages.archive.interval-ms:3600000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = horizon();
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} messages sent before {}", total, cutoff);
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Message> batch = messageRepository.lockArchivable(cutoff, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        archivedMessageRepository.saveAll(batch.stream()
+                .map(message -> toArchived(message, now))
+                .collect(Collectors.toList()));
+        messageRepository.deleteAllByIdInBatch(batch.stream()
+                .map(Message::getId)
+                .collect(Collectors.toList()));
+        return batch.size();
+    }
+
+    private ArchivedMessage toArchived(Message message, LocalDateTime archivedAt) {
+        return ArchivedMessage.builder()
+                .id(message.getId())
+                .senderId(message.getSenderId())
+                .senderName(message.getSenderName())
+                .receiverId(message.getReceiverId())
+                .receiverName(message.getReceiverName())
+                .applicationId(message.getApplicationId())
+                .jobId(message.getJobId())
+                .content(message.getContent())
+                .sentAt(message.getSentAt())
+                .participantLow(message.getParticipantLow())
+                .participantHigh(message.getParticipantHigh())
+                .archivedAt(archivedAt)
+                .build();
+    }
+}
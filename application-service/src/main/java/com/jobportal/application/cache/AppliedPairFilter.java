@@ -0,0 +1,127 @@
+package com.jobportal.application.cache;
+
+import com.jobportal.application.repository.JobApplicationRepository;
+import com.jobportal.application.repository.JobApplicationRepository.AppliedPair;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Bloom filter of (applicantId, jobId) pairs that have an application. "No" answers are exact,
+// so most has-applied checks skip the database; "maybe" must be confirmed against the table.
+// Applications from other instances are picked up by a periodic scan of new rows; until the
+// initial load finishes every check reports "maybe".
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppliedPairFilter {
+
+    private final JobApplicationRepository applicationRepository;
+
+    @Value("${app.applications.applied-filter.expected-entries:1000000}")
+    private long expectedEntries;
+
+    @Value("${app.applications.applied-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.applications.applied-filter.load-batch-size:10000}")
+    private int loadBatchSize;
+
+    // Re-scan a few ids below the last one seen: identity ids can commit out of order
+    @Value("${app.applications.applied-filter.refresh-lookback-ids:100}")
+    private long refreshLookbackIds;
+
+    private AtomicLongArray bits;
+    private long bitCount;
+    private int hashCount;
+
+    private final AtomicLong lastSeenId = new AtomicLong();
+    private volatile boolean ready;
+
+    @PostConstruct
+    void init() {
+        double ln2 = Math.log(2);
+        bitCount = Math.max(64, (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        bitCount = (bitCount + 63) & ~63L;
+        hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * ln2));
+        bits = new AtomicLongArray((int) (bitCount >>> 6));
+    }
+
+    public boolean mightContain(Long applicantId, Long jobId) {
+        if (!ready) {
+            return true;
+        }
+        long h1 = mix(applicantId * 0x9E3779B97F4A7C15L + jobId);
+        long h2 = mix(h1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(Long applicantId, Long jobId) {
+        long h1 = mix(applicantId * 0x9E3779B97F4A7C15L + jobId);
+        long h2 = mix(h1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits.getAndAccumulate((int) (bit >>> 6), 1L << bit, (word, mask) -> word | mask);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long loaded = loadAfter(0);
+        ready = true;
+        log.info("Loaded {} applied pairs into the has-applied filter ({} bits, {} hashes)",
+                loaded, bitCount, hashCount);
+        if (loaded > expectedEntries) {
+            log.warn("Has-applied filter holds more than the expected {} entries; raise "
+                    + "app.applications.applied-filter.expected-entries to keep false positives low", expectedEntries);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.applications.applied-filter.refresh-ms:5000}")
+    public void refresh() {
+        if (ready) {
+            loadAfter(Math.max(0, lastSeenId.get() - refreshLookbackIds));
+        }
+    }
+
+    private long loadAfter(long afterId) {
+        long loaded = 0;
+        while (true) {
+            List<AppliedPair> pairs = applicationRepository.findAppliedPairsAfter(afterId, PageRequest.of(0, loadBatchSize));
+            for (AppliedPair pair : pairs) {
+                put(pair.getApplicantId(), pair.getJobId());
+                afterId = pair.getId();
+            }
+            loaded += pairs.size();
+            lastSeenId.accumulateAndGet(afterId, Math::max);
+            if (pairs.size() < loadBatchSize) {
+                return loaded;
+            }
+        }
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,128 @@
+package com.jobportal.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.application.entity.ApplicationStatus;
+import com.jobportal.application.entity.ApplicationStatusRollup;
+import com.jobportal.application.repository.ApplicationStatusRollupRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-employer application counts by job and status. The application_status_rollups table is
+// the source of truth and is adjusted in the caller's transaction on every status change; this
+// map mirrors it per employer. A change drops the employer's snapshot once it commits, since a
+// snapshot loaded between the commit and that point already includes it. Entries expire so
+// drift from other instances stays bounded.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployerStatsCache {
+
+    private final ApplicationStatusRollupRepository rollupRepository;
+
+    @Value("${app.applications.stats.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${app.applications.stats.max-entries:10000}")
+    private int maxEntries;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    // Never modified once cached
+    private Cache<Long, Map<Long, Map<ApplicationStatus, Long>>> snapshots;
+
+    @PostConstruct
+    void init() {
+        snapshots = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    // jobId -> status -> count, zero counts omitted
+    public Map<Long, Map<ApplicationStatus, Long>> get(Long employerId) {
+        Map<Long, Map<ApplicationStatus, Long>> cached = snapshots.getIfPresent(employerId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedAt = generation.get();
+        Map<Long, Map<ApplicationStatus, Long>> counts = new HashMap<>();
+        for (ApplicationStatusRollup rollup : rollupRepository.findByEmployerId(employerId)) {
+            if (rollup.getApplicationCount() > 0) {
+                counts.computeIfAbsent(rollup.getJobId(), id -> new EnumMap<>(ApplicationStatus.class))
+                        .put(rollup.getStatus(), rollup.getApplicationCount());
+            }
+        }
+        Map<Long, Map<ApplicationStatus, Long>> loaded = Collections.unmodifiableMap(counts);
+
+        // Only cache the loaded value if no adjustment raced with the read
+        snapshots.asMap().compute(employerId, (id, existing) -> generation.get() == loadedAt ? loaded : existing);
+        return loaded;
+    }
+
+    // Must be called inside the transaction that changes the application status
+    public void transition(Long employerId, Long jobId, ApplicationStatus from, ApplicationStatus to) {
+        transition(employerId, jobId, from, to, 1);
+    }
+
+    // Moves count applications of one job from one status to another
+    public void transition(Long employerId, Long jobId, ApplicationStatus from, ApplicationStatus to, long count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        if (from != null) {
+            adjust(employerId, jobId, from, -count);
+        }
+        adjust(employerId, jobId, to, count);
+    }
+
+    // One-off seeding for applications submitted before rollups existed
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (rollupRepository.count() > 0) {
+            return;
+        }
+        int rows = rollupRepository.rebuildFromApplications();
+        if (rows > 0) {
+            log.info("Backfilled {} application status rollups", rows);
+        }
+    }
+
+    private void adjust(Long employerId, Long jobId, ApplicationStatus status, long delta) {
+        rollupRepository.adjust(employerId, jobId, status.name(), delta);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(employerId);
+                }
+            });
+        } else {
+            evict(employerId);
+        }
+    }
+
+    // Bumps the generation first, so a load that started before the commit is not cached
+    private void evict(Long employerId) {
+        generation.incrementAndGet();
+        snapshots.invalidate(employerId);
+    }
+}
@@ -0,0 +1,74 @@
+package com.jobportal.application.cache;
+
+import com.jobportal.application.client.BatchingJobServiceClient;
+import com.jobportal.application.dto.JobSummaryResponse;
+import com.jobportal.application.repository.JobApplicationRepository;
+import com.jobportal.application.repository.JobApplicationRepository.JobOwner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// jobId -> employerId. A job's employer never changes, so entries never go stale and
+// ownership checks are a map lookup. Jobs missing from the index are resolved from
+// job_applications, then from job-service, and remembered.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobOwnershipIndex {
+
+    private final JobApplicationRepository applicationRepository;
+    private final BatchingJobServiceClient batchingJobServiceClient;
+
+    @Value("${app.jobs.lookup-timeout-ms:3000}")
+    private long jobLookupTimeoutMs;
+
+    private final Map<Long, Long> owners = new ConcurrentHashMap<>();
+
+    // Returns null if the job is unknown or its owner could not be resolved
+    public Long ownerOf(Long jobId) {
+        Long owner = owners.get(jobId);
+        if (owner != null) {
+            return owner;
+        }
+
+        owner = applicationRepository.findEmployerIdsByJobId(jobId, PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .orElse(null);
+        if (owner == null) {
+            try {
+                JobSummaryResponse job = batchingJobServiceClient.getJobSummary(jobId)
+                        .get(jobLookupTimeoutMs, TimeUnit.MILLISECONDS);
+                owner = job != null ? job.getEmployerId() : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Could not resolve owner of job {}: {}", jobId, e.getMessage());
+            }
+        }
+
+        if (owner != null) {
+            owners.put(jobId, owner);
+        }
+        return owner;
+    }
+
+    public void record(Long jobId, Long employerId) {
+        owners.putIfAbsent(jobId, employerId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (JobOwner owner : applicationRepository.findJobOwners()) {
+            owners.putIfAbsent(owner.getJobId(), owner.getEmployerId());
+        }
+        log.info("Loaded owners of {} jobs into the ownership index", owners.size());
+    }
+}
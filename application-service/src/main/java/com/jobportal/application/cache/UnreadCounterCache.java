@@ -0,0 +1,174 @@
+package com.jobportal.application.cache;
+
+import com.jobportal.application.entity.UnreadCounter;
+import com.jobportal.application.repository.UnreadCounterRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Per-user unread message counts. The unread_counters table is the source of truth and is
+// written in the caller's transaction; this striped map mirrors it so reads rarely hit the DB.
+// A change drops the user's entry once it commits rather than adjusting it: a read between the
+// commit and that point may already have cached the new row, and a delta would count it twice.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadCounterCache {
+
+    private final UnreadCounterRepository unreadCounterRepository;
+
+    @Value("${app.messages.unread-counters.stripes:64}")
+    private int stripeCount;
+
+    @Value("${app.messages.unread-counters.max-entries:100000}")
+    private int maxEntries;
+
+    private Stripe[] stripes;
+    private int maxEntriesPerStripe;
+
+    @PostConstruct
+    void init() {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        maxEntriesPerStripe = Math.max(1, maxEntries / size);
+    }
+
+    public long get(Long userId) {
+        Stripe stripe = stripeFor(userId);
+        long modCount;
+        synchronized (stripe) {
+            Long count = stripe.counts.get(userId);
+            if (count != null) {
+                return count;
+            }
+            modCount = stripe.modCount;
+        }
+
+        long loaded = unreadCounterRepository.findById(userId)
+                .map(UnreadCounter::getUnreadCount)
+                .orElse(0L);
+
+        synchronized (stripe) {
+            // Only cache the loaded value if no adjustment raced with the read
+            if (stripe.modCount == modCount) {
+                stripe.put(userId, loaded, maxEntriesPerStripe);
+            }
+        }
+        return loaded;
+    }
+
+    // Must be called inside the transaction that changes the underlying messages
+    public void add(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        unreadCounterRepository.addToCount(userId, delta);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    // Counters can drift when another instance writes the same user; resync cached entries with the table
+    @Scheduled(fixedDelayString = "${app.messages.unread-counters.reconcile-ms:60000}")
+    public void reconcile() {
+        int corrected = 0;
+        for (Stripe stripe : stripes) {
+            List<Long> userIds;
+            long modCount;
+            synchronized (stripe) {
+                if (stripe.counts.isEmpty()) {
+                    continue;
+                }
+                userIds = new ArrayList<>(stripe.counts.keySet());
+                modCount = stripe.modCount;
+            }
+
+            Map<Long, Long> stored = new HashMap<>();
+            unreadCounterRepository.findAllById(userIds)
+                    .forEach(counter -> stored.put(counter.getUserId(), counter.getUnreadCount()));
+
+            synchronized (stripe) {
+                if (stripe.modCount != modCount) {
+                    continue; // Retry this stripe on the next run
+                }
+                for (Long userId : userIds) {
+                    long value = stored.getOrDefault(userId, 0L);
+                    Long previous = stripe.counts.put(userId, value);
+                    if (previous != null && previous != value) {
+                        corrected++;
+                    }
+                }
+            }
+        }
+        if (corrected > 0) {
+            log.info("Reconciled {} unread counters with the counter table", corrected);
+        }
+    }
+
+    // One-off seeding for unread messages sent before counters existed
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (unreadCounterRepository.count() > 0) {
+            return;
+        }
+        int rows = unreadCounterRepository.rebuildFromMessages();
+        if (rows > 0) {
+            log.info("Backfilled {} unread counters from message history", rows);
+        }
+    }
+
+    // Bumps modCount too, so a read that started before the commit does not cache its old value
+    private void evict(Long userId) {
+        Stripe stripe = stripeFor(userId);
+        synchronized (stripe) {
+            stripe.modCount++;
+            stripe.counts.remove(userId);
+        }
+    }
+
+    private Stripe stripeFor(Long userId) {
+        int hash = userId.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+        private final Map<Long, Long> counts = new HashMap<>();
+        private long modCount;
+
+        private void put(Long userId, long count, int maxEntries) {
+            if (counts.size() >= maxEntries && !counts.containsKey(userId)) {
+                Iterator<Long> it = counts.keySet().iterator();
+                it.next();
+                it.remove();
+            }
+            counts.put(userId, count);
+        }
+    }
+}
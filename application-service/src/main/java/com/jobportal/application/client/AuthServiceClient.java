@@ -1,13 +1,21 @@
 package com.jobportal.application.client;
 
+import com.jobportal.application.dto.UserBatchRequest;
 import com.jobportal.application.dto.UserResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 @FeignClient(name = "AUTH-SERVICE")
 public interface AuthServiceClient {
 
     @GetMapping("/api/auth/users/{userId}")
     UserResponse getUserById(@PathVariable("userId") Long userId);
+
+    @PostMapping("/api/auth/users/batch")
+    List<UserResponse> getUsersByIds(@RequestBody UserBatchRequest request);
 }
@@ -0,0 +1,152 @@
+package com.jobportal.application.client;
+
+import com.jobportal.application.dto.UserBatchRequest;
+import com.jobportal.application.dto.UserResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BatchingAuthServiceClient {
+
+    private final AuthServiceClient authServiceClient;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.users.batch.max-size:100}")
+    private int maxBatchSize;
+
+    @Value("${app.users.batch.window-ms:5}")
+    private long windowMs;
+
+    @Value("${app.users.batch.threads:4}")
+    private int threads;
+
+    @Value("${app.users.name-cache.ttl-ms:600000}")
+    private long nameTtlMs;
+
+    @Value("${app.users.name-cache.max-size:10000}")
+    private int nameCacheMaxSize;
+
+    // Bounded by size only: expired names stay until evicted so they can serve as a fallback
+    private Cache<Long, CachedName> nameCache;
+
+    private RequestBatcher<Long, UserResponse> batcher;
+    private ClientGuard guard;
+
+    @PostConstruct
+    void init() {
+        guard = new ClientGuard("authService", circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+        nameCache = Caffeine.newBuilder().maximumSize(nameCacheMaxSize).build();
+        batcher = new RequestBatcher<>("user-lookup", this::loadUsers, maxBatchSize, windowMs, threads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batcher.shutdown();
+    }
+
+    // Falls back to an expired cached name if auth-service could not be reached;
+    // returns null if the user is unknown or there is nothing to fall back to
+    public String getUserName(Long userId) {
+        String cached = getCachedName(userId);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            UserResponse user = batcher.submit(userId).join();
+            return user != null ? user.getName() : null;
+        } catch (Exception e) {
+            log.warn("Could not fetch user {}: {}", userId, e.getMessage());
+            return getStaleName(userId);
+        }
+    }
+
+    // Resolves every name it can; cache misses cost one batch call per max-size chunk
+    public Map<Long, String> getUserNames(Collection<Long> userIds) {
+        Map<Long, String> names = new HashMap<>();
+        Set<Long> missSet = new LinkedHashSet<>();
+        for (Long userId : userIds) {
+            String cached = getCachedName(userId);
+            if (cached != null) {
+                names.put(userId, cached);
+            } else {
+                missSet.add(userId);
+            }
+        }
+
+        List<Long> misses = new ArrayList<>(missSet);
+
+        for (int from = 0; from < misses.size(); from += maxBatchSize) {
+            int to = Math.min(from + maxBatchSize, misses.size());
+            try {
+                loadUsers(new ArrayList<>(misses.subList(from, to)))
+                        .forEach((id, user) -> names.put(id, user.getName()));
+            } catch (Exception e) {
+                log.warn("Could not fetch {} users: {}", to - from, e.getMessage());
+                for (Long userId : misses.subList(from, to)) {
+                    String stale = getStaleName(userId);
+                    if (stale != null) {
+                        names.put(userId, stale);
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    private Map<Long, UserResponse> loadUsers(List<Long> userIds) {
+        List<UserResponse> users = guard.call(() -> authServiceClient.getUsersByIds(new UserBatchRequest(userIds)));
+        Map<Long, UserResponse> byId = new HashMap<>();
+        for (UserResponse user : users) {
+            byId.put(user.getId(), user);
+            cacheName(user.getId(), user.getName());
+        }
+        return byId;
+    }
+
+    private String getCachedName(Long userId) {
+        CachedName cached = nameCache.getIfPresent(userId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() < System.currentTimeMillis()) {
+            return null;
+        }
+        return cached.name();
+    }
+
+    private String getStaleName(Long userId) {
+        CachedName cached = nameCache.getIfPresent(userId);
+        return cached != null ? cached.name() : null;
+    }
+
+    private void cacheName(Long userId, String name) {
+        if (name == null) {
+            return;
+        }
+        nameCache.put(userId, new CachedName(name, System.currentTimeMillis() + nameTtlMs));
+    }
+
+    private record CachedName(String name, long expiresAt) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.jobportal.application.client;
+
+import com.jobportal.application.dto.JobBatchRequest;
+import com.jobportal.application.dto.JobRequirementsResponse;
+import com.jobportal.application.dto.JobSummaryResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BatchingJobServiceClient {
+
+    private final JobServiceClient jobServiceClient;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.jobs.batch.max-size:100}")
+    private int maxBatchSize;
+
+    @Value("${app.jobs.batch.window-ms:5}")
+    private long windowMs;
+
+    @Value("${app.jobs.batch.threads:4}")
+    private int threads;
+
+    @Value("${app.jobs.snapshot-cache.max-size:10000}")
+    private int snapshotCacheMaxSize;
+
+    // Last summary seen per job, served when job-service is failing or shedding load
+    private Cache<Long, JobSummaryResponse> snapshots;
+
+    private RequestBatcher<Long, JobSummaryResponse> batcher;
+    private ClientGuard guard;
+
+    @PostConstruct
+    void init() {
+        guard = new ClientGuard("jobService", circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+        snapshots = Caffeine.newBuilder().maximumSize(snapshotCacheMaxSize).build();
+        batcher = new RequestBatcher<>("job-lookup", this::loadJobs, maxBatchSize, windowMs, threads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batcher.shutdown();
+    }
+
+    // Completes with null if the job does not exist
+    public CompletableFuture<JobSummaryResponse> getJobSummary(Long jobId) {
+        return batcher.submit(jobId);
+    }
+
+    // Skills and requirement text for ranking applicants; not batched, one call per ranking request
+    public JobRequirementsResponse getJobRequirements(Long jobId) {
+        return guard.call(() -> jobServiceClient.getJobRequirements(jobId));
+    }
+
+    // Best effort: the counter is a display statistic and must never hold up the caller
+    @Async
+    public void incrementApplicationCount(Long jobId) {
+        try {
+            guard.run(() -> jobServiceClient.incrementApplicationCount(jobId));
+        } catch (Exception e) {
+            log.warn("Failed to increment application count for job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    public Map<Long, JobSummaryResponse> getJobSummaries(Collection<Long> jobIds) {
+        List<Long> distinctIds = jobIds.stream().distinct().collect(Collectors.toList());
+        Map<Long, JobSummaryResponse> jobs = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += maxBatchSize) {
+            int to = Math.min(from + maxBatchSize, distinctIds.size());
+            jobs.putAll(loadJobs(new ArrayList<>(distinctIds.subList(from, to))));
+        }
+        return jobs;
+    }
+
+    private Map<Long, JobSummaryResponse> loadJobs(List<Long> jobIds) {
+        List<JobSummaryResponse> jobs;
+        try {
+            jobs = guard.call(() -> jobServiceClient.getJobsByIds(new JobBatchRequest(jobIds)));
+        } catch (Exception e) {
+            Map<Long, JobSummaryResponse> fallback = new HashMap<>();
+            for (Long jobId : jobIds) {
+                JobSummaryResponse snapshot = snapshots.getIfPresent(jobId);
+                if (snapshot != null) {
+                    fallback.put(jobId, snapshot);
+                }
+            }
+            if (fallback.isEmpty()) {
+                throw e;
+            }
+            log.warn("Job lookup failed ({}), serving {} of {} jobs from snapshots",
+                    e.getMessage(), fallback.size(), jobIds.size());
+            return fallback;
+        }
+
+        jobs.forEach(job -> snapshots.put(job.getId(), job));
+        return jobs.stream().collect(Collectors.toMap(JobSummaryResponse::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.jobportal.application.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Supplier;
+
+// Circuit breaker around a bulkhead for calls to one downstream service. Thresholds come from
+// resilience4j.circuitbreaker.instances.<name> and resilience4j.bulkhead.instances.<name>;
+// breaker state is exported by the resilience4j metrics binders, rejections by the counter here.
+public class ClientGuard {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public ClientGuard(String name,
+                       CircuitBreakerRegistry circuitBreakerRegistry,
+                       BulkheadRegistry bulkheadRegistry,
+                       MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        this.bulkhead = bulkheadRegistry.bulkhead(name);
+
+        Counter rejected = Counter.builder("app.client.bulkhead.rejected")
+                .description("Calls rejected because the downstream bulkhead was full")
+                .tag("client", name)
+                .register(meterRegistry);
+        bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+    }
+
+    // Throws CallNotPermittedException or BulkheadFullException instead of waiting on a sick service
+    public <T> T call(Supplier<T> call) {
+        return circuitBreaker.executeSupplier(() -> bulkhead.executeSupplier(call));
+    }
+
+    public void run(Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        });
+    }
+}
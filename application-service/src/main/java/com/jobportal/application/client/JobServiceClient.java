@@ -1,12 +1,18 @@
 package com.jobportal.application.client;
 
+import com.jobportal.application.dto.JobBatchRequest;
+import com.jobportal.application.dto.JobRequirementsResponse;
 import com.jobportal.application.dto.JobResponse;
+import com.jobportal.application.dto.JobSummaryResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
+import java.util.List;
+
 @FeignClient(name = "JOB-SERVICE")
 public interface JobServiceClient {
 
@@ -15,6 +21,12 @@ public interface JobServiceClient {
             @PathVariable("jobId") Long jobId,
             @RequestHeader("X-User-Id") Long userId);
 
+    @PostMapping("/api/jobs/batch")
+    List<JobSummaryResponse> getJobsByIds(@RequestBody JobBatchRequest request);
+
+    @GetMapping("/api/jobs/{jobId}/requirements")
+    JobRequirementsResponse getJobRequirements(@PathVariable("jobId") Long jobId);
+
     @PostMapping("/api/jobs/{jobId}/increment-applications")
     void incrementApplicationCount(@PathVariable("jobId") Long jobId);
 }
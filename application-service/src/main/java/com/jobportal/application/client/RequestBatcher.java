@@ -0,0 +1,96 @@
+package com.jobportal.application.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// Coalesces single-key lookups submitted within a short window into one bulk call.
+// Keys the loader does not return complete with null.
+@Slf4j
+public class RequestBatcher<K, V> {
+
+    private final String name;
+    private final Function<List<K>, Map<K, V>> loader;
+    private final int maxBatchSize;
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private final ConcurrentLinkedQueue<PendingRequest<K, V>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    public RequestBatcher(String name, Function<List<K>, Map<K, V>> loader,
+                          int maxBatchSize, long windowMillis, int threads) {
+        this.name = name;
+        this.loader = loader;
+        this.maxBatchSize = maxBatchSize;
+        this.windowMillis = windowMillis;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(name + "-batch-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newScheduledThreadPool(threads, threadFactory);
+    }
+
+    public CompletableFuture<V> submit(K key) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        queue.add(new PendingRequest<>(key, future));
+
+        if (queued.incrementAndGet() >= maxBatchSize) {
+            // A full batch is waiting, no point in holding it for the rest of the window
+            scheduler.execute(this::flush);
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return future;
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+
+        while (true) {
+            Map<K, List<CompletableFuture<V>>> batch = new LinkedHashMap<>();
+            PendingRequest<K, V> pending;
+            while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+                queued.decrementAndGet();
+                batch.computeIfAbsent(pending.key(), k -> new ArrayList<>()).add(pending.future());
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            load(batch);
+        }
+    }
+
+    private void load(Map<K, List<CompletableFuture<V>>> batch) {
+        try {
+            Map<K, V> results = loader.apply(new ArrayList<>(batch.keySet()));
+            log.debug("{} batch resolved {} of {} keys", name, results.size(), batch.size());
+            batch.forEach((key, futures) -> {
+                V value = results.get(key);
+                futures.forEach(future -> future.complete(value));
+            });
+        } catch (Exception e) {
+            log.warn("{} batch of {} keys failed: {}", name, batch.size(), e.getMessage());
+            batch.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(e)));
+        }
+    }
+
+    private record PendingRequest<K, V>(K key, CompletableFuture<V> future) {
+    }
+}
@@ -2,13 +2,19 @@ package com.jobportal.application.controller;
 
 import com.jobportal.application.dto.*;
 import com.jobportal.application.entity.ApplicationStatus;
+import com.jobportal.application.exception.BadRequestException;
+import com.jobportal.application.service.ApplicationExportService;
 import com.jobportal.application.service.JobApplicationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -19,6 +25,7 @@ import java.util.Map;
 public class JobApplicationController {
 
     private final JobApplicationService applicationService;
+    private final ApplicationExportService exportService;
 
     private static final String JOB_SEEKER_ROLE = "JOB_SEEKER";
 
@@ -67,6 +74,21 @@ public class JobApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/status/bulk")
+    public ResponseEntity<BulkStatusUpdateResponse> updateApplicationStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequest request,
+            @RequestHeader(name = "X-User-Id") Long userId,
+            @RequestHeader(name = "X-User-Role") String userRole) {
+
+        if (!"EMPLOYER".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        log.info("Bulk status update of {} applications to {}", request.getApplicationIds().size(), request.getStatus());
+        BulkStatusUpdateResponse response = applicationService.updateStatuses(request, userId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{applicationId}")
     public ResponseEntity<ApplicationResponse> getApplicationById(
             @PathVariable(name = "applicationId") Long applicationId,
@@ -104,15 +126,62 @@ public class JobApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/employer/stats")
+    public ResponseEntity<EmployerStatsResponse> getEmployerStats(
+            @RequestHeader(name = "X-User-Id") Long userId,
+            @RequestHeader(name = "X-User-Role") String userRole) {
+
+        if (!"EMPLOYER".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        log.info("Get application stats for employer: {}", userId);
+        EmployerStatsResponse response = applicationService.getEmployerStats(userId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/employer/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestHeader(name = "X-User-Id") Long userId,
+            @RequestHeader(name = "X-User-Role") String userRole,
+            @RequestParam(name = "format", defaultValue = "csv") String format,
+            @RequestParam(name = "jobId", required = false) Long jobId,
+            @RequestParam(name = "status", required = false) ApplicationStatus status) {
+
+        if (!"EMPLOYER".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+
+        log.info("Export applications for employer: {} as {}", userId, exportFormat);
+        StreamingResponseBody body = out -> exportService.exportForEmployer(userId, jobId, status, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("applications." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/job/{jobId}")
     public ResponseEntity<PagedResponse<ApplicationResponse>> getApplicationsByJob(
             @PathVariable(name = "jobId") Long jobId,
             @RequestHeader(name = "X-User-Id") Long userId,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "sort", defaultValue = "appliedAt") String sort) {
 
-        log.info("Get applications for job: {}", jobId);
-        PagedResponse<ApplicationResponse> response = applicationService.getApplicationsByJob(jobId, userId, page, size);
+        log.info("Get applications for job: {} sorted by {}", jobId, sort);
+        PagedResponse<ApplicationResponse> response = "score".equals(sort)
+                ? applicationService.getRankedApplicationsByJob(jobId, userId, page, size)
+                : applicationService.getApplicationsByJob(jobId, userId, page, size);
         return ResponseEntity.ok(response);
     }
 
@@ -148,6 +217,15 @@ public class JobApplicationController {
         return ResponseEntity.ok(Map.of("hasApplied", hasApplied));
     }
 
+    @PostMapping("/check")
+    public ResponseEntity<Map<Long, Boolean>> checkIfAppliedToJobs(
+            @Valid @RequestBody ApplicationCheckRequest request,
+            @RequestHeader(name = "X-User-Id") Long userId) {
+
+        Map<Long, Boolean> applied = applicationService.hasApplied(request.getJobIds(), userId);
+        return ResponseEntity.ok(applied);
+    }
+
     @PostMapping("/{applicationId}/send-interview-email")
     public ResponseEntity<Map<String, String>> sendInterviewScheduleEmail(
             @PathVariable(name = "applicationId") Long applicationId,
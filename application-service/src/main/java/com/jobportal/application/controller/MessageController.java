@@ -1,13 +1,16 @@
 package com.jobportal.application.controller;
 
 import com.jobportal.application.dto.*;
+import com.jobportal.application.realtime.MessagePushHub;
 import com.jobportal.application.service.MessageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -19,6 +22,7 @@ import java.util.Map;
 public class MessageController {
 
     private final MessageService messageService;
+    private final MessagePushHub messagePushHub;
 
     @PostMapping
     public ResponseEntity<MessageResponse> sendMessage(
@@ -45,6 +49,24 @@ public class MessageController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/conversation/{partnerId}/history")
+    public ResponseEntity<MessageHistoryResponse> getConversationHistory(
+            @PathVariable Long partnerId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "30") int limit,
+            @RequestHeader("X-User-Id") Long userId) {
+
+        log.info("Get conversation history between {} and {} before {}", userId, partnerId, before);
+
+        // Opening the latest page means the user has seen the conversation
+        if (before == null) {
+            messageService.markAsRead(userId, partnerId);
+        }
+
+        MessageHistoryResponse response = messageService.getConversationHistory(userId, partnerId, before, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/application/{applicationId}")
     public ResponseEntity<PagedResponse<MessageResponse>> getMessagesByApplication(
             @PathVariable Long applicationId,
@@ -65,6 +87,12 @@ public class MessageController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessages(@RequestHeader("X-User-Id") Long userId) {
+        log.info("Message stream opened for user: {}", userId);
+        return messagePushHub.subscribe(userId);
+    }
+
     @GetMapping("/unread-count")
     public ResponseEntity<Map<String, Long>> getUnreadCount(
             @RequestHeader("X-User-Id") Long userId) {
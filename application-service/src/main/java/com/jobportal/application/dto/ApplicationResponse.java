@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -23,8 +24,10 @@ public class ApplicationResponse {
     private Long employerId;
     private String coverLetter;
     private String resumeUrl;
+    private List<String> skills;
     private ApplicationStatus status;
     private String notes;
     private LocalDateTime appliedAt;
     private LocalDateTime updatedAt;
+    private Double score; // Only set when ranking applicants by score
 }
@@ -0,0 +1,25 @@
+package com.jobportal.application.dto;
+
+import com.jobportal.application.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusResult {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        NOT_AUTHORIZED
+    }
+
+    private Long applicationId;
+    private Outcome outcome;
+    private ApplicationStatus previousStatus;
+}
@@ -0,0 +1,24 @@
+package com.jobportal.application.dto;
+
+import com.jobportal.application.entity.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one application ID is required")
+    private List<Long> applicationIds;
+
+    @NotNull(message = "Status is required")
+    private ApplicationStatus status;
+}
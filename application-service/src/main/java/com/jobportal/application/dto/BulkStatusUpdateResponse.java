@@ -0,0 +1,21 @@
+package com.jobportal.application.dto;
+
+import com.jobportal.application.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+    private ApplicationStatus status;
+    private int updated;
+    private int unchanged;
+    private int failed;
+    private List<BulkStatusResult> results;
+}
@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,4 +22,6 @@ public class CreateApplicationRequest {
     private String coverLetter;
 
     private String resumeUrl;
+
+    private List<String> skills;
 }
@@ -0,0 +1,20 @@
+package com.jobportal.application.dto;
+
+import com.jobportal.application.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployerStatsResponse {
+    private long totalApplications;
+    private Map<ApplicationStatus, Long> countsByStatus;
+    private List<JobStatsResponse> jobs;
+}
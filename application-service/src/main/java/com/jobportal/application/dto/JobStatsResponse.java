@@ -0,0 +1,19 @@
+package com.jobportal.application.dto;
+
+import com.jobportal.application.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatsResponse {
+    private Long jobId;
+    private long totalApplications;
+    private Map<ApplicationStatus, Long> countsByStatus;
+}
@@ -0,0 +1,21 @@
+package com.jobportal.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummaryResponse {
+    private Long id;
+    private String title;
+    private String companyName;
+    private Long employerId;
+    private String status;
+    private LocalDateTime updatedAt;
+}
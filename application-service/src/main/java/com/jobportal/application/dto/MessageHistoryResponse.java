@@ -0,0 +1,18 @@
+package com.jobportal.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageHistoryResponse {
+    private List<MessageResponse> messages; // Oldest first, ready to render
+    private Long nextCursor;                // Pass as "before" to load older messages
+    private boolean hasMore;
+}
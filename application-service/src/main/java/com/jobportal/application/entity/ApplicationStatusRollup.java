@@ -0,0 +1,35 @@
+package com.jobportal.application.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "application_status_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_application_status_rollups", columnNames = {"employer_id", "job_id", "status"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employer_id", nullable = false)
+    private Long employerId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationStatus status;
+
+    @Column(name = "application_count", nullable = false)
+    private long applicationCount;
+}
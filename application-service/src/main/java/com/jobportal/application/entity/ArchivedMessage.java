@@ -0,0 +1,77 @@
+package com.jobportal.application.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// Cold copy of a read message past the archive horizon. Keeps the original message id
+// so history cursors stay valid after a message moves here.
+@Entity
+@Table(name = "messages_archive", indexes = {
+    @Index(name = "idx_messages_archive_conversation", columnList = "participant_low, participant_high, sent_at, id"),
+    @Index(name = "idx_messages_archive_application", columnList = "application_id, sent_at, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedMessage implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+
+    @Column(name = "sender_name")
+    private String senderName;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Column(name = "receiver_name")
+    private String receiverName;
+
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(nullable = false, columnDefinition = "bytea")
+    private String content;
+
+    @Column(name = "sent_at", nullable = false)
+    private LocalDateTime sentAt;
+
+    @Column(name = "participant_low", nullable = false)
+    private Long participantLow;
+
+    @Column(name = "participant_high", nullable = false)
+    private Long participantHigh;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Ids are assigned, so tell Spring Data to insert directly instead of merging
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+}
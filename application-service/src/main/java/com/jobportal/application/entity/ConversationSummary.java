@@ -0,0 +1,42 @@
+package com.jobportal.application.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One row per (user, partner), maintained on every send and mark-as-read
+@Entity
+@Table(name = "conversation_summaries", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"user_id", "partner_id"})
+}, indexes = {
+    @Index(name = "idx_conversation_summaries_user_time", columnList = "user_id, last_message_time")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "partner_id", nullable = false)
+    private Long partnerId;
+
+    @Column(name = "last_message", columnDefinition = "TEXT")
+    private String lastMessage;
+
+    @Column(name = "last_message_time")
+    private LocalDateTime lastMessageTime;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+}
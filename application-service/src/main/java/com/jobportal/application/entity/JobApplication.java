@@ -51,6 +51,10 @@ public class JobApplication {
     @Column(name = "resume_url")
     private String resumeUrl;
 
+    // Comma-separated, as entered by the applicant
+    @Column(columnDefinition = "TEXT")
+    private String skills;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ApplicationStatus status = ApplicationStatus.PENDING;
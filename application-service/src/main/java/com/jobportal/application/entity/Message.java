@@ -10,7 +10,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+    @Index(name = "idx_messages_conversation", columnList = "participant_low, participant_high, sent_at, id"),
+    @Index(name = "idx_messages_sent_at", columnList = "sent_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -48,4 +51,17 @@ public class Message {
     @CreationTimestamp
     @Column(name = "sent_at", updatable = false)
     private LocalDateTime sentAt;
+
+    // Order-independent conversation key: least(sender, receiver), greatest(sender, receiver)
+    @Column(name = "participant_low", updatable = false)
+    private Long participantLow;
+
+    @Column(name = "participant_high", updatable = false)
+    private Long participantHigh;
+
+    @PrePersist
+    void assignParticipants() {
+        participantLow = Math.min(senderId, receiverId);
+        participantHigh = Math.max(senderId, receiverId);
+    }
 }
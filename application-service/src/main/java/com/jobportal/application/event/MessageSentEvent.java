@@ -0,0 +1,6 @@
+package com.jobportal.application.event;
+
+import com.jobportal.application.dto.MessageResponse;
+
+public record MessageSentEvent(MessageResponse message) {
+}
@@ -0,0 +1,182 @@
+package com.jobportal.application.realtime;
+
+import com.jobportal.application.dto.MessageResponse;
+import com.jobportal.application.event.MessageSentEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Pushes new messages to connected clients over SSE. Connections are async servlet requests,
+// so idle subscribers hold no request thread; delivery and heartbeats run on a small bounded pool.
+// Heartbeats have their own scheduler thread, so slow client sockets never hold up the
+// service's @Scheduled jobs.
+@Component
+@Slf4j
+public class MessagePushHub {
+
+    private static final String MESSAGE_EVENT = "message";
+    private static final int HEARTBEAT_BATCH_SIZE = 200;
+
+    // Per-user emitters in subscription order, so the head is always the oldest stream
+    private final Map<Long, Deque<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${app.messages.push.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${app.messages.push.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${app.messages.push.threads:4}")
+    private int threads;
+
+    @Value("${app.messages.push.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.messages.push.heartbeat-ms:25000}")
+    private long heartbeatMs;
+
+    private ThreadPoolExecutor pushExecutor;
+    private ScheduledExecutorService heartbeatScheduler;
+
+    @PostConstruct
+    void init() {
+        pushExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("message-push-"));
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("message-heartbeat-"));
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        pushExecutor.shutdown();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        List<SseEmitter> evicted = new ArrayList<>();
+
+        // Registered inside compute() so a concurrent unsubscribe cannot drop the deque from the
+        // map between creating it and adding to it. Oldest tabs lose out once a user opens too many.
+        Deque<SseEmitter> emitters = subscribers.compute(userId, (id, current) -> {
+            Deque<SseEmitter> deque = current != null ? current : new ConcurrentLinkedDeque<>();
+            while (deque.size() >= maxConnectionsPerUser) {
+                evicted.add(deque.pollFirst());
+            }
+            deque.addLast(emitter);
+            return deque;
+        });
+        // Completed outside compute(): their callbacks unsubscribe, which updates the same key
+        evicted.forEach(SseEmitter::complete);
+
+        emitter.onCompletion(() -> unsubscribe(userId, emitter));
+        emitter.onTimeout(() -> unsubscribe(userId, emitter));
+        emitter.onError(e -> unsubscribe(userId, emitter));
+
+        // Flush headers right away so proxies see an open stream
+        if (!send(emitter, SseEmitter.event().comment("connected"))) {
+            unsubscribe(userId, emitter);
+        }
+        log.debug("User {} subscribed to message stream ({} open)", userId, emitters.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessageSent(MessageSentEvent event) {
+        MessageResponse message = event.message();
+        try {
+            pushExecutor.execute(() -> {
+                deliver(message.getReceiverId(), message);
+                // Keep the sender's other tabs in sync as well
+                if (!message.getSenderId().equals(message.getReceiverId())) {
+                    deliver(message.getSenderId(), message);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Push queue full, message {} will only be seen on next fetch", message.getId());
+        }
+    }
+
+    // Only fans out: pings go to the push pool in batches, so a slow socket holds up one push
+    // thread for its batch instead of the whole heartbeat
+    void heartbeat() {
+        List<Long> userIds = new ArrayList<>(subscribers.keySet());
+        for (int from = 0; from < userIds.size(); from += HEARTBEAT_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + HEARTBEAT_BATCH_SIZE, userIds.size()));
+            try {
+                pushExecutor.execute(() -> batch.forEach(this::ping));
+            } catch (RejectedExecutionException e) {
+                // Those streams get their ping on the next round
+                log.warn("Push queue full, skipped heartbeat for {} users", userIds.size() - from);
+                return;
+            }
+        }
+    }
+
+    private void ping(Long userId) {
+        Deque<SseEmitter> emitters = subscribers.get(userId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            if (!send(emitter, SseEmitter.event().comment("ping"))) {
+                unsubscribe(userId, emitter);
+            }
+        }
+    }
+
+    private void deliver(Long userId, MessageResponse message) {
+        Deque<SseEmitter> emitters = subscribers.get(userId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .id(String.valueOf(message.getId()))
+                    .name(MESSAGE_EVENT)
+                    .data(message);
+            if (!send(emitter, event)) {
+                unsubscribe(userId, emitter);
+            }
+        }
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The container completes the emitter itself after an I/O error
+            return false;
+        }
+    }
+
+    private void unsubscribe(Long userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(userId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobportal.application.repository;
+
+import com.jobportal.application.entity.ApplicationStatusRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ApplicationStatusRollupRepository extends JpaRepository<ApplicationStatusRollup, Long> {
+
+    // Uses the unique constraint's index, so one employer's dashboard is a single range read
+    List<ApplicationStatusRollup> findByEmployerId(Long employerId);
+
+    @Modifying
+    @Query(value = "INSERT INTO application_status_rollups (employer_id, job_id, status, application_count) " +
+           "VALUES (:employerId, :jobId, :status, GREATEST(:delta, 0)) " +
+           "ON CONFLICT (employer_id, job_id, status) DO UPDATE SET " +
+           "application_count = GREATEST(application_status_rollups.application_count + :delta, 0)",
+           nativeQuery = true)
+    void adjust(@Param("employerId") Long employerId,
+                @Param("jobId") Long jobId,
+                @Param("status") String status,
+                @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO application_status_rollups (employer_id, job_id, status, application_count) " +
+           "SELECT a.employer_id, a.job_id, a.status, COUNT(*) FROM job_applications a " +
+           "GROUP BY a.employer_id, a.job_id, a.status " +
+           "ON CONFLICT (employer_id, job_id, status) DO NOTHING",
+           nativeQuery = true)
+    int rebuildFromApplications();
+}
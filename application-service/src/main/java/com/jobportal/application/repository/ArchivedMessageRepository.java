@@ -0,0 +1,37 @@
+package com.jobportal.application.repository;
+
+import com.jobportal.application.entity.ArchivedMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedMessageRepository extends JpaRepository<ArchivedMessage, Long> {
+
+    @Query("SELECT m FROM ArchivedMessage m WHERE m.participantLow = :low AND m.participantHigh = :high " +
+           "ORDER BY m.sentAt ASC, m.id ASC")
+    List<ArchivedMessage> findConversation(@Param("low") Long low, @Param("high") Long high);
+
+    @Query("SELECT m FROM ArchivedMessage m WHERE m.participantLow = :low AND m.participantHigh = :high " +
+           "ORDER BY m.sentAt DESC, m.id DESC")
+    List<ArchivedMessage> findLatestInConversation(@Param("low") Long low, @Param("high") Long high, Pageable pageable);
+
+    @Query("SELECT m FROM ArchivedMessage m WHERE m.participantLow = :low AND m.participantHigh = :high AND " +
+           "(m.sentAt < :beforeTime OR (m.sentAt = :beforeTime AND m.id < :beforeId)) " +
+           "ORDER BY m.sentAt DESC, m.id DESC")
+    List<ArchivedMessage> findInConversationBefore(@Param("low") Long low,
+                                                   @Param("high") Long high,
+                                                   @Param("beforeTime") LocalDateTime beforeTime,
+                                                   @Param("beforeId") Long beforeId,
+                                                   Pageable pageable);
+
+    @Query("SELECT m FROM ArchivedMessage m WHERE m.applicationId = :applicationId ORDER BY m.sentAt ASC, m.id ASC")
+    List<ArchivedMessage> findByApplicationId(@Param("applicationId") Long applicationId, Pageable pageable);
+
+    long countByApplicationId(Long applicationId);
+}
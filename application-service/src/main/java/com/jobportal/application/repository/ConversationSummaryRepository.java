@@ -0,0 +1,54 @@
+package com.jobportal.application.repository;
+
+import com.jobportal.application.entity.ConversationSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ConversationSummaryRepository extends JpaRepository<ConversationSummary, Long> {
+
+    List<ConversationSummary> findByUserIdOrderByLastMessageTimeDesc(Long userId);
+
+    // Messages can commit out of order, so only a newer message replaces the preview
+    @Modifying
+    @Query(value = "INSERT INTO conversation_summaries (user_id, partner_id, last_message, last_message_time, unread_count) " +
+           "VALUES (:userId, :partnerId, :lastMessage, :lastMessageTime, :unreadDelta) " +
+           "ON CONFLICT (user_id, partner_id) DO UPDATE SET " +
+           "last_message = CASE WHEN EXCLUDED.last_message_time >= conversation_summaries.last_message_time " +
+           "THEN EXCLUDED.last_message ELSE conversation_summaries.last_message END, " +
+           "last_message_time = GREATEST(conversation_summaries.last_message_time, EXCLUDED.last_message_time), " +
+           "unread_count = conversation_summaries.unread_count + EXCLUDED.unread_count",
+           nativeQuery = true)
+    void recordMessage(@Param("userId") Long userId,
+                       @Param("partnerId") Long partnerId,
+                       @Param("lastMessage") String lastMessage,
+                       @Param("lastMessageTime") LocalDateTime lastMessageTime,
+                       @Param("unreadDelta") long unreadDelta);
+
+    // Subtracts only what was actually marked read: a message committed after that snapshot
+    // still counts as unread
+    @Modifying
+    @Query("UPDATE ConversationSummary c SET c.unreadCount = " +
+           "CASE WHEN c.unreadCount > :marked THEN c.unreadCount - :marked ELSE 0 END " +
+           "WHERE c.userId = :userId AND c.partnerId = :partnerId")
+    int subtractUnreadCount(@Param("userId") Long userId, @Param("partnerId") Long partnerId,
+                            @Param("marked") long marked);
+
+    @Modifying
+    @Query(value = "INSERT INTO conversation_summaries (user_id, partner_id, last_message, last_message_time, unread_count) " +
+           "SELECT DISTINCT ON (c.user_id, c.partner_id) c.user_id, c.partner_id, c.content, c.sent_at, " +
+           "(SELECT COUNT(*) FROM messages u WHERE u.receiver_id = c.user_id AND u.sender_id = c.partner_id AND u.is_read = false) " +
+           "FROM (SELECT m.sender_id AS user_id, m.receiver_id AS partner_id, m.content, m.sent_at, m.id FROM messages m " +
+           "UNION ALL " +
+           "SELECT m.receiver_id, m.sender_id, m.content, m.sent_at, m.id FROM messages m) c " +
+           "ORDER BY c.user_id, c.partner_id, c.sent_at DESC, c.id DESC " +
+           "ON CONFLICT (user_id, partner_id) DO NOTHING",
+           nativeQuery = true)
+    int rebuildFromMessages();
+}
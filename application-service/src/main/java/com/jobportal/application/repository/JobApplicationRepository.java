@@ -2,29 +2,67 @@ package com.jobportal.application.repository;
 
 import com.jobportal.application.entity.ApplicationStatus;
 import com.jobportal.application.entity.JobApplication;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
 
+    // Serialises status changes on one application so rollup deltas always start from the current status
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM JobApplication a WHERE a.id = :id")
+    Optional<JobApplication> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM JobApplication a WHERE a.id IN :ids")
+    List<JobApplication> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Bulk JPQL updates skip @UpdateTimestamp, so the caller passes the timestamp
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobApplication a SET a.status = :status, a.updatedAt = :updatedAt " +
+           "WHERE a.id IN :ids AND a.employerId = :employerId")
+    int updateStatusForEmployer(@Param("ids") Collection<Long> ids,
+                                @Param("employerId") Long employerId,
+                                @Param("status") ApplicationStatus status,
+                                @Param("updatedAt") LocalDateTime updatedAt);
+
     Page<JobApplication> findByApplicantId(Long applicantId, Pageable pageable);
 
     Page<JobApplication> findByEmployerId(Long employerId, Pageable pageable);
 
     Page<JobApplication> findByJobId(Long jobId, Pageable pageable);
 
+    List<JobApplication> findAllByJobId(Long jobId);
+
+    @Query("SELECT a.employerId FROM JobApplication a WHERE a.jobId = :jobId")
+    List<Long> findEmployerIdsByJobId(@Param("jobId") Long jobId, Pageable pageable);
+
+    @Query("SELECT DISTINCT a.jobId AS jobId, a.employerId AS employerId FROM JobApplication a")
+    List<JobOwner> findJobOwners();
+
     Optional<JobApplication> findByJobIdAndApplicantId(Long jobId, Long applicantId);
 
     boolean existsByJobIdAndApplicantId(Long jobId, Long applicantId);
 
+    @Query("SELECT a.jobId FROM JobApplication a WHERE a.applicantId = :applicantId AND a.jobId IN :jobIds")
+    List<Long> findAppliedJobIds(@Param("applicantId") Long applicantId, @Param("jobIds") Collection<Long> jobIds);
+
+    @Query("SELECT a.id AS id, a.applicantId AS applicantId, a.jobId AS jobId FROM JobApplication a " +
+           "WHERE a.id > :afterId ORDER BY a.id")
+    List<AppliedPair> findAppliedPairsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     Page<JobApplication> findByEmployerIdAndStatus(Long employerId, ApplicationStatus status, Pageable pageable);
 
     Page<JobApplication> findByApplicantIdAndStatus(Long applicantId, ApplicationStatus status, Pageable pageable);
@@ -36,4 +74,15 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     long countByEmployerIdAndStatus(@Param("employerId") Long employerId, @Param("status") ApplicationStatus status);
 
     List<JobApplication> findByJobIdIn(List<Long> jobIds);
+
+    interface JobOwner {
+        Long getJobId();
+        Long getEmployerId();
+    }
+
+    interface AppliedPair {
+        Long getId();
+        Long getApplicantId();
+        Long getJobId();
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -25,14 +26,39 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
            "ORDER BY m.sentAt ASC")
     List<Message> findConversation(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
 
+    @Query("SELECT m FROM Message m WHERE m.participantLow = :low AND m.participantHigh = :high " +
+           "ORDER BY m.sentAt DESC, m.id DESC")
+    List<Message> findLatestInConversation(@Param("low") Long low, @Param("high") Long high, Pageable pageable);
+
+    @Query("SELECT m FROM Message m WHERE m.participantLow = :low AND m.participantHigh = :high AND " +
+           "(m.sentAt < :beforeTime OR (m.sentAt = :beforeTime AND m.id < :beforeId)) " +
+           "ORDER BY m.sentAt DESC, m.id DESC")
+    List<Message> findInConversationBefore(@Param("low") Long low,
+                                           @Param("high") Long high,
+                                           @Param("beforeTime") LocalDateTime beforeTime,
+                                           @Param("beforeId") Long beforeId,
+                                           Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE messages SET participant_low = LEAST(sender_id, receiver_id), " +
+           "participant_high = GREATEST(sender_id, receiver_id) WHERE participant_low IS NULL",
+           nativeQuery = true)
+    int backfillParticipants();
+
+    // Rows already claimed by another instance's archiver are skipped rather than waited on
+    @Query(value = "SELECT * FROM messages WHERE sent_at < :cutoff AND is_read = true " +
+           "AND participant_low IS NOT NULL ORDER BY sent_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Message> lockArchivable(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
     Page<Message> findByApplicationId(Long applicationId, Pageable pageable);
 
     @Query("SELECT COUNT(m) FROM Message m WHERE m.receiverId = :userId AND m.isRead = false")
     long countUnreadMessages(@Param("userId") Long userId);
 
     @Modifying
-    @Query("UPDATE Message m SET m.isRead = true WHERE m.receiverId = :userId AND m.senderId = :senderId")
-    void markMessagesAsRead(@Param("userId") Long userId, @Param("senderId") Long senderId);
+    @Query("UPDATE Message m SET m.isRead = true WHERE m.receiverId = :userId AND m.senderId = :senderId AND m.isRead = false")
+    int markMessagesAsRead(@Param("userId") Long userId, @Param("senderId") Long senderId);
 
     @Query("SELECT DISTINCT CASE WHEN m.senderId = :userId THEN m.receiverId ELSE m.senderId END " +
            "FROM Message m WHERE m.senderId = :userId OR m.receiverId = :userId")
@@ -0,0 +1,26 @@
+package com.jobportal.application.repository;
+
+import com.jobportal.application.entity.UnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UnreadCounterRepository extends JpaRepository<UnreadCounter, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO unread_counters (user_id, unread_count) VALUES (:userId, GREATEST(:delta, 0)) " +
+           "ON CONFLICT (user_id) DO UPDATE SET " +
+           "unread_count = GREATEST(unread_counters.unread_count + :delta, 0)",
+           nativeQuery = true)
+    void addToCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO unread_counters (user_id, unread_count) " +
+           "SELECT m.receiver_id, COUNT(*) FROM messages m WHERE m.is_read = false GROUP BY m.receiver_id " +
+           "ON CONFLICT (user_id) DO NOTHING",
+           nativeQuery = true)
+    int rebuildFromMessages();
+}
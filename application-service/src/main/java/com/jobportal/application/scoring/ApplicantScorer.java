@@ -0,0 +1,198 @@
+package com.jobportal.application.scoring;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.application.dto.JobRequirementsResponse;
+import com.jobportal.application.entity.JobApplication;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.regex.Pattern;
+
+// Scores applications (0-100) against a job's skills and requirement text on a dedicated
+// ForkJoin pool, so large applicant lists don't compete with the common pool. Scores are
+// cached per application and reused until the application or the job is updated.
+@Component
+public class ApplicantScorer {
+
+    private static final int SEQUENTIAL_THRESHOLD = 32;
+    private static final double SKILL_WEIGHT = 0.7;
+    private static final double REQUIREMENT_WEIGHT = 0.3;
+    // A skill only mentioned in the cover letter counts for less than one the applicant listed
+    private static final double MENTIONED_SKILL_CREDIT = 0.5;
+    private static final int MIN_TERM_LENGTH = 3;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^a-z0-9+#]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "and", "the", "for", "with", "you", "are", "our", "will", "have", "has", "must", "should",
+            "able", "work", "experience", "years", "year", "knowledge", "strong", "good", "plus",
+            "from", "that", "this", "your", "who", "can", "etc", "using", "working", "skills");
+
+    @Value("${app.applications.scoring.parallelism:0}")
+    private int parallelism;
+
+    @Value("${app.applications.scoring.cache-max-entries:50000}")
+    private int cacheMaxEntries;
+
+    private Cache<Long, CachedScore> cache;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void init() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads);
+        cache = Caffeine.newBuilder().maximumSize(cacheMaxEntries).build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // scores[i] belongs to applications.get(i)
+    public double[] score(JobRequirementsResponse job, List<JobApplication> applications) {
+        JobProfile profile = JobProfile.of(job);
+        double[] scores = new double[applications.size()];
+        if (!applications.isEmpty()) {
+            pool.invoke(new ScoreTask(profile, applications, scores, 0, applications.size()));
+        }
+        return scores;
+    }
+
+    private double cachedScore(JobProfile profile, JobApplication application) {
+        CachedScore cached = cache.getIfPresent(application.getId());
+        if (cached != null
+                && Objects.equals(cached.applicationUpdatedAt(), application.getUpdatedAt())
+                && Objects.equals(cached.jobUpdatedAt(), profile.updatedAt())) {
+            return cached.score();
+        }
+
+        double score = compute(profile, application);
+        cache.put(application.getId(),
+                new CachedScore(score, application.getUpdatedAt(), profile.updatedAt()));
+        return score;
+    }
+
+    private double compute(JobProfile profile, JobApplication application) {
+        Set<String> listedSkills = new HashSet<>();
+        if (application.getSkills() != null) {
+            for (String skill : application.getSkills().split(",")) {
+                String normalized = normalize(skill);
+                if (!normalized.isEmpty()) {
+                    listedSkills.add(normalized);
+                }
+            }
+        }
+        String coverLetter = " " + normalize(application.getCoverLetter()) + " ";
+
+        double skillScore = 0;
+        for (String skill : profile.skills()) {
+            if (listedSkills.contains(skill)) {
+                skillScore += 1;
+            } else if (coverLetter.contains(" " + skill + " ")) {
+                skillScore += MENTIONED_SKILL_CREDIT;
+            }
+        }
+
+        Set<String> applicantTerms = terms(coverLetter);
+        listedSkills.forEach(skill -> applicantTerms.addAll(terms(skill)));
+        long matchedTerms = profile.terms().stream().filter(applicantTerms::contains).count();
+
+        boolean hasSkills = !profile.skills().isEmpty();
+        boolean hasTerms = !profile.terms().isEmpty();
+        if (!hasSkills && !hasTerms) {
+            return 0;
+        }
+        double skillPart = hasSkills ? skillScore / profile.skills().size() : 0;
+        double termPart = hasTerms ? (double) matchedTerms / profile.terms().size() : 0;
+        double combined;
+        if (hasSkills && hasTerms) {
+            combined = SKILL_WEIGHT * skillPart + REQUIREMENT_WEIGHT * termPart;
+        } else {
+            combined = hasSkills ? skillPart : termPart;
+        }
+        return Math.round(combined * 1000) / 10.0;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return NON_WORD.matcher(text.toLowerCase()).replaceAll(" ").trim();
+    }
+
+    private static Set<String> terms(String normalizedText) {
+        Set<String> terms = new HashSet<>();
+        for (String token : normalizedText.split(" ")) {
+            if (token.length() >= MIN_TERM_LENGTH && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private record JobProfile(Set<String> skills, Set<String> terms, LocalDateTime updatedAt) {
+
+        private static JobProfile of(JobRequirementsResponse job) {
+            Set<String> skills = new LinkedHashSet<>();
+            if (job.getSkills() != null) {
+                for (String skill : job.getSkills()) {
+                    String normalized = normalize(skill);
+                    if (!normalized.isEmpty()) {
+                        skills.add(normalized);
+                    }
+                }
+            }
+            Set<String> terms = terms(normalize(job.getRequirements()));
+            skills.forEach(skill -> terms.removeAll(Arrays.asList(skill.split(" "))));
+            return new JobProfile(Collections.unmodifiableSet(skills), Collections.unmodifiableSet(terms),
+                    job.getUpdatedAt());
+        }
+    }
+
+    private record CachedScore(double score, LocalDateTime applicationUpdatedAt, LocalDateTime jobUpdatedAt) {
+    }
+
+    private final class ScoreTask extends RecursiveAction {
+
+        private final JobProfile profile;
+        private final List<JobApplication> applications;
+        private final double[] scores;
+        private final int from;
+        private final int to;
+
+        private ScoreTask(JobProfile profile, List<JobApplication> applications, double[] scores, int from, int to) {
+            this.profile = profile;
+            this.applications = applications;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    scores[i] = cachedScore(profile, applications.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreTask(profile, applications, scores, from, mid),
+                      new ScoreTask(profile, applications, scores, mid, to));
+        }
+    }
+}
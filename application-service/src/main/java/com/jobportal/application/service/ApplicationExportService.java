@@ -0,0 +1,10 @@
+package com.jobportal.application.service;
+
+import com.jobportal.application.dto.ExportFormat;
+import com.jobportal.application.entity.ApplicationStatus;
+
+import java.io.OutputStream;
+
+public interface ApplicationExportService {
+    void exportForEmployer(Long employerId, Long jobId, ApplicationStatus status, ExportFormat format, OutputStream out);
+}
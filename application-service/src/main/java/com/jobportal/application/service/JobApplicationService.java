@@ -3,6 +3,9 @@ package com.jobportal.application.service;
 import com.jobportal.application.dto.*;
 import com.jobportal.application.entity.ApplicationStatus;
 
+import java.util.List;
+import java.util.Map;
+
 public interface JobApplicationService {
     ApplicationResponse applyForJob(CreateApplicationRequest request, Long applicantId, String applicantName, String applicantEmail);
     ApplicationResponse updateApplication(Long applicationId, UpdateApplicationRequest request, Long userId, String userRole);
@@ -10,9 +13,13 @@ public interface JobApplicationService {
     PagedResponse<ApplicationResponse> getMyApplications(Long applicantId, int page, int size);
     PagedResponse<ApplicationResponse> getApplicationsForEmployer(Long employerId, int page, int size);
     PagedResponse<ApplicationResponse> getApplicationsByJob(Long jobId, Long userId, int page, int size);
+    PagedResponse<ApplicationResponse> getRankedApplicationsByJob(Long jobId, Long userId, int page, int size);
     PagedResponse<ApplicationResponse> getApplicationsByStatus(Long userId, String userRole, ApplicationStatus status, int page, int size);
+    BulkStatusUpdateResponse updateStatuses(BulkStatusUpdateRequest request, Long employerId);
     void withdrawApplication(Long applicationId, Long applicantId);
     boolean hasApplied(Long jobId, Long applicantId);
+    Map<Long, Boolean> hasApplied(List<Long> jobIds, Long applicantId);
+    EmployerStatsResponse getEmployerStats(Long employerId);
     void sendInterviewScheduleEmail(Long applicationId, Long employerId, InterviewScheduleRequest request);
     void sendSelectionEmail(Long applicationId, Long employerId, SelectionEmailRequest request);
 }
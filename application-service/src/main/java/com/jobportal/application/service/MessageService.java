@@ -7,6 +7,7 @@ import java.util.List;
 public interface MessageService {
     MessageResponse sendMessage(SendMessageRequest request, Long senderId, String senderName);
     List<MessageResponse> getConversation(Long userId1, Long userId2);
+    MessageHistoryResponse getConversationHistory(Long userId, Long partnerId, Long beforeMessageId, int limit);
     PagedResponse<MessageResponse> getMessagesByApplication(Long applicationId, int page, int size);
     List<ConversationResponse> getConversations(Long userId);
     long getUnreadCount(Long userId);
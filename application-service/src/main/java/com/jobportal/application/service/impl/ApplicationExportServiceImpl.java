@@ -0,0 +1,203 @@
+package com.jobportal.application.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.application.dto.ExportFormat;
+import com.jobportal.application.entity.ApplicationStatus;
+import com.jobportal.application.service.ApplicationExportService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+// Streams an employer's applications row by row from a forward-only cursor, so memory use
+// does not depend on the size of the export. PostgreSQL only honours the fetch size inside
+// a transaction, so the whole export runs in one read-only transaction.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationExportServiceImpl implements ApplicationExportService {
+
+    private static final String[] COLUMNS = {
+            "id", "job_id", "job_title", "company_name", "applicant_id", "applicant_name", "applicant_email",
+            "status", "skills", "resume_url", "cover_letter", "notes", "applied_at", "updated_at"
+    };
+
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.applications.export.fetch-size:500}")
+    private int fetchSize;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void exportForEmployer(Long employerId, Long jobId, ApplicationStatus status,
+                                  ExportFormat format, OutputStream out) {
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(String.join(", ", COLUMNS))
+                .append(" FROM job_applications WHERE employer_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(employerId);
+        if (jobId != null) {
+            sql.append(" AND job_id = ?");
+            args.add(jobId);
+        }
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+        }
+        sql.append(" ORDER BY id");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long rows = readOnlyTransaction.execute(tx -> {
+            long[] count = {0};
+            try {
+                rowWriter.start();
+                jdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> {
+                    rowWriter.write(rs);
+                    count[0]++;
+                }, args.toArray());
+                rowWriter.finish();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count[0];
+        });
+        log.info("Exported {} applications for employer {} as {}", rows, employerId, format);
+    }
+
+    private interface RowWriter {
+        void start() throws IOException;
+        void write(ResultSet rs) throws SQLException;
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            try {
+                for (int i = 0; i < COLUMNS.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    Object value = rs.getObject(i + 1);
+                    if (value instanceof Timestamp timestamp) {
+                        value = timestamp.toLocalDateTime();
+                    }
+                    writer.write(escape(value == null ? "" : value.toString()));
+                }
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            // Keep spreadsheet apps from evaluating applicant-supplied text as a formula
+            if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+            return value;
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            generator = objectMapper.getFactory().createGenerator(writer);
+            // Rows are already newline-terminated; the default separator would prefix each one with a space
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            try {
+                generator.writeStartObject();
+                for (int i = 0; i < COLUMNS.length; i++) {
+                    Object value = rs.getObject(i + 1);
+                    generator.writeFieldName(COLUMNS[i]);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else if (value instanceof Number number) {
+                        generator.writeNumber(number.longValue());
+                    } else if (value instanceof Timestamp timestamp) {
+                        generator.writeString(timestamp.toLocalDateTime().toString());
+                    } else {
+                        generator.writeString(value.toString());
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
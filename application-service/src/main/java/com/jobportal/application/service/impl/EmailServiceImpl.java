@@ -8,11 +8,15 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -26,6 +30,9 @@ public class EmailServiceImpl implements EmailService {
     @Value("${app.mail.enabled:false}")
     private boolean emailEnabled;
 
+    @Value("${app.mail.batch-size:50}")
+    private int batchSize;
+
     @Override
     @Async
     public void sendApplicationStatusEmail(JobApplication application, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
@@ -34,30 +41,37 @@ public class EmailServiceImpl implements EmailService {
             return;
         }
 
-        String subject;
-        String body;
+        StatusEmail email = buildStatusEmail(application, newStatus);
+        sendEmail(application.getApplicantEmail(), email.subject(), email.body());
+    }
 
-        if (newStatus == ApplicationStatus.OFFERED || newStatus == ApplicationStatus.ACCEPTED) {
-            subject = "🎉 Congratulations! You've been selected for " + application.getJobTitle();
-            body = buildAcceptedEmailBody(application);
-        } else if (newStatus == ApplicationStatus.REJECTED) {
-            subject = "Update on your application for " + application.getJobTitle();
-            body = buildRejectedEmailBody(application);
-        } else if (newStatus == ApplicationStatus.REVIEWED) {
-            subject = "Your application for " + application.getJobTitle() + " is under review";
-            body = buildReviewedEmailBody(application);
-        } else if (newStatus == ApplicationStatus.SHORTLISTED) {
-            subject = "🌟 Great news! You've been shortlisted for " + application.getJobTitle();
-            body = buildShortlistedEmailBody(application);
-        } else if (newStatus == ApplicationStatus.INTERVIEW) {
-            subject = "📅 Interview scheduled for " + application.getJobTitle();
-            body = buildInterviewEmailBody(application);
-        } else {
-            subject = "Application Status Update - " + application.getJobTitle();
-            body = buildGenericEmailBody(application, newStatus);
+    @Override
+    @Async
+    public void sendApplicationStatusEmails(List<JobApplication> applications, ApplicationStatus newStatus) {
+        if (!emailEnabled) {
+            log.info("Email notifications disabled. Would have sent {} status change emails", applications.size());
+            return;
         }
 
-        sendEmail(application.getApplicantEmail(), subject, body);
+        // Each chunk goes out over a single SMTP session
+        for (int from = 0; from < applications.size(); from += batchSize) {
+            List<JobApplication> chunk = applications.subList(from, Math.min(from + batchSize, applications.size()));
+            List<MimeMessage> messages = new ArrayList<>(chunk.size());
+            for (JobApplication application : chunk) {
+                StatusEmail email = buildStatusEmail(application, newStatus);
+                try {
+                    messages.add(createMessage(application.getApplicantEmail(), email.subject(), email.body()));
+                } catch (MessagingException e) {
+                    log.error("Failed to build email to {}: {}", application.getApplicantEmail(), e.getMessage());
+                }
+            }
+            try {
+                mailSender.send(messages.toArray(new MimeMessage[0]));
+                log.info("Sent {} status change emails", messages.size());
+            } catch (MailException e) {
+                log.error("Failed to send status change email batch: {}", e.getMessage());
+            }
+        }
     }
 
     @Override
@@ -76,21 +90,54 @@ public class EmailServiceImpl implements EmailService {
 
     private void sendEmail(String to, String subject, String htmlBody) {
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlBody, true);
-
-            mailSender.send(message);
+            mailSender.send(createMessage(to, subject, htmlBody));
             log.info("Email sent successfully to: {}", to);
         } catch (MessagingException e) {
             log.error("Failed to send email to {}: {}", to, e.getMessage());
         }
     }
 
+    private MimeMessage createMessage(String to, String subject, String htmlBody) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(fromEmail);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(htmlBody, true);
+        return message;
+    }
+
+    private StatusEmail buildStatusEmail(JobApplication application, ApplicationStatus newStatus) {
+        String subject;
+        String body;
+
+        if (newStatus == ApplicationStatus.OFFERED || newStatus == ApplicationStatus.ACCEPTED) {
+            subject = "🎉 Congratulations! You've been selected for " + application.getJobTitle();
+            body = buildAcceptedEmailBody(application);
+        } else if (newStatus == ApplicationStatus.REJECTED) {
+            subject = "Update on your application for " + application.getJobTitle();
+            body = buildRejectedEmailBody(application);
+        } else if (newStatus == ApplicationStatus.REVIEWED) {
+            subject = "Your application for " + application.getJobTitle() + " is under review";
+            body = buildReviewedEmailBody(application);
+        } else if (newStatus == ApplicationStatus.SHORTLISTED) {
+            subject = "🌟 Great news! You've been shortlisted for " + application.getJobTitle();
+            body = buildShortlistedEmailBody(application);
+        } else if (newStatus == ApplicationStatus.INTERVIEW) {
+            subject = "📅 Interview scheduled for " + application.getJobTitle();
+            body = buildInterviewEmailBody(application);
+        } else {
+            subject = "Application Status Update - " + application.getJobTitle();
+            body = buildGenericEmailBody(application, newStatus);
+        }
+
+        return new StatusEmail(subject, body);
+    }
+
+    private record StatusEmail(String subject, String body) {
+    }
+
     private String buildAcceptedEmailBody(JobApplication application) {
         return """
             <!DOCTYPE html>
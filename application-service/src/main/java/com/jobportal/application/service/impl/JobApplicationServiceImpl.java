@@ -1,7 +1,10 @@
 package com.jobportal.application.service.impl;
 
 import com.jobportal.application.client.AuthServiceClient;
-import com.jobportal.application.client.JobServiceClient;
+import com.jobportal.application.cache.AppliedPairFilter;
+import com.jobportal.application.cache.EmployerStatsCache;
+import com.jobportal.application.cache.JobOwnershipIndex;
+import com.jobportal.application.client.BatchingJobServiceClient;
 import com.jobportal.application.dto.*;
 import com.jobportal.application.entity.ApplicationStatus;
 import com.jobportal.application.entity.JobApplication;
@@ -10,17 +13,38 @@ import com.jobportal.application.exception.ResourceNotFoundException;
 import com.jobportal.application.exception.UnauthorizedException;
 import com.jobportal.application.repository.JobApplicationRepository;
 import com.jobportal.application.service.EmailService;
+import com.jobportal.application.scoring.ApplicantScorer;
 import com.jobportal.application.service.JobApplicationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,32 +53,56 @@ import java.util.stream.Collectors;
 public class JobApplicationServiceImpl implements JobApplicationService {
 
     private final JobApplicationRepository applicationRepository;
-    private final JobServiceClient jobServiceClient;
+    private final BatchingJobServiceClient batchingJobServiceClient;
     private final AuthServiceClient authServiceClient;
     private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployerStatsCache employerStatsCache;
+    private final ApplicantScorer applicantScorer;
+    private final AppliedPairFilter appliedPairFilter;
+    private final JobOwnershipIndex jobOwnershipIndex;
+
+    @Value("${app.jobs.lookup-timeout-ms:3000}")
+    private long jobLookupTimeoutMs;
+
+    @Value("${app.applications.bulk-max-size:1000}")
+    private int bulkMaxSize;
+
+    @Value("${app.applications.check-max-size:100}")
+    private int checkMaxSize;
 
     private static final String EMPLOYER_ROLE = "EMPLOYER";
     private static final String APPLICATION_NOT_FOUND = "Application not found with id: ";
 
+    // Not @Transactional: remote calls happen outside the transaction so a slow job-service
+    // never holds a pooled connection; only the insert itself runs in one
     @Override
-    @Transactional
     public ApplicationResponse applyForJob(CreateApplicationRequest request, Long applicantId, 
                                            String applicantName, String applicantEmail) {
         log.info("User {} applying for job {}", applicantId, request.getJobId());
 
+        // Start the job lookup (coalesced with concurrent lookups into one batch call)
+        // and run the local duplicate check while it is in flight
+        CompletableFuture<JobSummaryResponse> jobLookup = batchingJobServiceClient.getJobSummary(request.getJobId());
+
         // Check if already applied
-        if (applicationRepository.existsByJobIdAndApplicantId(request.getJobId(), applicantId)) {
+        if (hasApplied(request.getJobId(), applicantId)) {
             throw new BadRequestException("You have already applied for this job");
         }
 
-        // Get job details
-        JobResponse job;
+        JobSummaryResponse job;
         try {
-            job = jobServiceClient.getJobById(request.getJobId(), applicantId);
+            job = jobLookup.get(jobLookupTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceNotFoundException("Job not found with id: " + request.getJobId());
         } catch (Exception e) {
             log.error("Error fetching job details: {}", e.getMessage());
             throw new ResourceNotFoundException("Job not found with id: " + request.getJobId());
         }
+        if (job == null) {
+            throw new ResourceNotFoundException("Job not found with id: " + request.getJobId());
+        }
 
         // Cannot apply to own job
         if (job.getEmployerId().equals(applicantId)) {
@@ -71,21 +119,29 @@ public class JobApplicationServiceImpl implements JobApplicationService {
                 .employerId(job.getEmployerId())
                 .coverLetter(request.getCoverLetter())
                 .resumeUrl(request.getResumeUrl())
+                .skills(joinSkills(request.getSkills()))
                 .status(ApplicationStatus.PENDING)
                 .build();
 
-        JobApplication savedApplication = applicationRepository.save(application);
-
-        // Increment application count on job
+        JobApplication savedApplication;
         try {
-            jobServiceClient.incrementApplicationCount(request.getJobId());
-        } catch (Exception e) {
-            log.warn("Failed to increment application count for job {}: {}", request.getJobId(), e.getMessage());
+            savedApplication = transactionTemplate.execute(status -> {
+                JobApplication saved = applicationRepository.save(application);
+                employerStatsCache.transition(saved.getEmployerId(), saved.getJobId(), null, saved.getStatus());
+                // Added before commit: a rollback only leaves a harmless false positive
+                appliedPairFilter.put(applicantId, saved.getJobId());
+                jobOwnershipIndex.record(saved.getJobId(), saved.getEmployerId());
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Concurrent duplicate apply, or one the filter had not seen yet
+            throw new BadRequestException("You have already applied for this job");
         }
 
         log.info("Application created successfully with id: {}", savedApplication.getId());
 
-        // Send application received email to the applicant
+        // Side effects only after the application is committed; both run asynchronously
+        batchingJobServiceClient.incrementApplicationCount(request.getJobId());
         try {
             emailService.sendApplicationReceivedEmail(savedApplication);
         } catch (Exception e) {
@@ -99,7 +155,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     @Transactional
     public ApplicationResponse updateApplication(Long applicationId, UpdateApplicationRequest request, 
                                                   Long userId, String userRole) {
-        JobApplication application = applicationRepository.findById(applicationId)
+        JobApplication application = applicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(APPLICATION_NOT_FOUND + applicationId));
 
         // Store old status for email notification
@@ -121,6 +177,8 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         }
 
         JobApplication updatedApplication = applicationRepository.save(application);
+        employerStatsCache.transition(updatedApplication.getEmployerId(), updatedApplication.getJobId(),
+                oldStatus, updatedApplication.getStatus());
         log.info("Application {} updated successfully", applicationId);
 
         // Send email notification if status changed
@@ -137,6 +195,86 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         return mapToResponse(updatedApplication);
     }
 
+    @Override
+    @Transactional
+    public BulkStatusUpdateResponse updateStatuses(BulkStatusUpdateRequest request, Long employerId) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getApplicationIds()));
+        if (ids.size() > bulkMaxSize) {
+            throw new BadRequestException("At most " + bulkMaxSize + " applications can be updated at once");
+        }
+        ApplicationStatus newStatus = request.getStatus();
+
+        // One query loads and locks every requested row; ownership is checked against it
+        Map<Long, JobApplication> byId = applicationRepository.findAllByIdForUpdate(ids).stream()
+                .collect(Collectors.toMap(JobApplication::getId, Function.identity()));
+
+        List<BulkStatusResult> results = new ArrayList<>(ids.size());
+        List<JobApplication> changed = new ArrayList<>();
+        int unchanged = 0;
+        for (Long id : ids) {
+            JobApplication application = byId.get(id);
+            BulkStatusResult.Outcome outcome;
+            if (application == null) {
+                outcome = BulkStatusResult.Outcome.NOT_FOUND;
+            } else if (!application.getEmployerId().equals(employerId)) {
+                outcome = BulkStatusResult.Outcome.NOT_AUTHORIZED;
+            } else if (application.getStatus() == newStatus) {
+                outcome = BulkStatusResult.Outcome.UNCHANGED;
+                unchanged++;
+            } else {
+                outcome = BulkStatusResult.Outcome.UPDATED;
+                changed.add(application);
+            }
+            results.add(BulkStatusResult.builder()
+                    .applicationId(id)
+                    .outcome(outcome)
+                    .previousStatus(application != null && outcome != BulkStatusResult.Outcome.NOT_AUTHORIZED
+                            ? application.getStatus() : null)
+                    .build());
+        }
+
+        if (!changed.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            applicationRepository.updateStatusForEmployer(
+                    changed.stream().map(JobApplication::getId).collect(Collectors.toList()),
+                    employerId, newStatus, now);
+
+            // One rollup adjustment per (job, previous status) instead of one per application
+            Map<Long, Map<ApplicationStatus, Long>> moved = new HashMap<>();
+            for (JobApplication application : changed) {
+                moved.computeIfAbsent(application.getJobId(), id -> new EnumMap<>(ApplicationStatus.class))
+                        .merge(application.getStatus(), 1L, Long::sum);
+                application.setStatus(newStatus);
+                application.setUpdatedAt(now);
+            }
+            moved.forEach((jobId, counts) -> counts.forEach((oldStatus, count) ->
+                    employerStatsCache.transition(employerId, jobId, oldStatus, newStatus, count)));
+
+            // Notify applicants as one batch once the new statuses are committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        emailService.sendApplicationStatusEmails(changed, newStatus);
+                    } catch (Exception e) {
+                        log.warn("Failed to queue status change emails: {}", e.getMessage());
+                    }
+                }
+            });
+        }
+
+        log.info("Bulk status update to {} by employer {}: {} updated, {} unchanged, {} failed",
+                newStatus, employerId, changed.size(), unchanged, ids.size() - changed.size() - unchanged);
+
+        return BulkStatusUpdateResponse.builder()
+                .status(newStatus)
+                .updated(changed.size())
+                .unchanged(unchanged)
+                .failed(ids.size() - changed.size() - unchanged)
+                .results(results)
+                .build();
+    }
+
     @Override
     public ApplicationResponse getApplicationById(Long applicationId, Long userId) {
         JobApplication application = applicationRepository.findById(applicationId)
@@ -169,17 +307,71 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     @Override
     public PagedResponse<ApplicationResponse> getApplicationsByJob(Long jobId, Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "appliedAt"));
+        if (!isJobOwner(jobId, userId)) {
+            return mapToPagedResponse(Page.empty(pageable));
+        }
+
         Page<JobApplication> applicationPage = applicationRepository.findByJobId(jobId, pageable);
+        return mapToPagedResponse(applicationPage);
+    }
+
+    @Override
+    public PagedResponse<ApplicationResponse> getRankedApplicationsByJob(Long jobId, Long userId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        if (!isJobOwner(jobId, userId)) {
+            return mapToPagedResponse(Page.empty(pageable));
+        }
 
-        // Verify that user is the employer of this job
-        if (!applicationPage.isEmpty()) {
-            JobApplication firstApp = applicationPage.getContent().get(0);
-            if (!firstApp.getEmployerId().equals(userId)) {
-                throw new UnauthorizedException("You are not authorized to view these applications");
+        List<JobApplication> applications = applicationRepository.findAllByJobId(jobId);
+
+        JobRequirementsResponse job;
+        try {
+            job = batchingJobServiceClient.getJobRequirements(jobId);
+        } catch (Exception e) {
+            log.warn("Could not fetch requirements for job {}, falling back to date order: {}", jobId, e.getMessage());
+            return getApplicationsByJob(jobId, userId, page, size);
+        }
+
+        double[] scores = applicantScorer.score(job, applications);
+
+        // Higher score first, earlier application breaks ties
+        Comparator<Integer> byRank = Comparator.<Integer>comparingDouble(i -> -scores[i])
+                .thenComparing(i -> applications.get(i).getId());
+
+        // Only the first (page + 1) * size ranks are needed: keep them in a bounded heap whose
+        // head is the worst kept entry instead of sorting every applicant
+        int total = applications.size();
+        int needed = (int) Math.min((long) pageable.getOffset() + size, total);
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, needed), byRank.reversed());
+        for (int i = 0; i < total && needed > 0; i++) {
+            if (top.size() < needed) {
+                top.add(i);
+            } else if (byRank.compare(i, top.peek()) < 0) {
+                top.poll();
+                top.add(i);
             }
         }
+        List<Integer> ranked = new ArrayList<>(top);
+        ranked.sort(byRank);
+
+        List<ApplicationResponse> content = new ArrayList<>();
+        for (int r = (int) Math.min(pageable.getOffset(), ranked.size()); r < ranked.size(); r++) {
+            int index = ranked.get(r);
+            ApplicationResponse response = mapToResponse(applications.get(index));
+            response.setScore(scores[index]);
+            content.add(response);
+        }
 
-        return mapToPagedResponse(applicationPage);
+        int totalPages = (total + size - 1) / size;
+        return PagedResponse.<ApplicationResponse>builder()
+                .content(content)
+                .pageNumber(page)
+                .pageSize(size)
+                .totalElements(total)
+                .totalPages(totalPages)
+                .last(page >= totalPages - 1)
+                .first(page == 0)
+                .build();
     }
 
     @Override
@@ -200,7 +392,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     @Override
     @Transactional
     public void withdrawApplication(Long applicationId, Long applicantId) {
-        JobApplication application = applicationRepository.findById(applicationId)
+        JobApplication application = applicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(APPLICATION_NOT_FOUND + applicationId));
 
         if (!application.getApplicantId().equals(applicantId)) {
@@ -211,16 +403,83 @@ public class JobApplicationServiceImpl implements JobApplicationService {
             throw new BadRequestException("Application is already withdrawn");
         }
 
+        ApplicationStatus oldStatus = application.getStatus();
         application.setStatus(ApplicationStatus.WITHDRAWN);
         applicationRepository.save(application);
+        employerStatsCache.transition(application.getEmployerId(), application.getJobId(),
+                oldStatus, ApplicationStatus.WITHDRAWN);
         log.info("Application {} withdrawn successfully", applicationId);
     }
 
     @Override
     public boolean hasApplied(Long jobId, Long applicantId) {
+        // Most checks are for jobs the user never applied to; the filter answers those without the DB
+        if (!appliedPairFilter.mightContain(applicantId, jobId)) {
+            return false;
+        }
         return applicationRepository.existsByJobIdAndApplicantId(jobId, applicantId);
     }
 
+    @Override
+    public Map<Long, Boolean> hasApplied(List<Long> jobIds, Long applicantId) {
+        Set<Long> distinctIds = new LinkedHashSet<>(jobIds);
+        if (distinctIds.size() > checkMaxSize) {
+            throw new BadRequestException("At most " + checkMaxSize + " jobs can be checked at once");
+        }
+
+        List<Long> candidates = distinctIds.stream()
+                .filter(jobId -> appliedPairFilter.mightContain(applicantId, jobId))
+                .collect(Collectors.toList());
+        Set<Long> applied = candidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(applicationRepository.findAppliedJobIds(applicantId, candidates));
+
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        distinctIds.forEach(jobId -> result.put(jobId, applied.contains(jobId)));
+        return result;
+    }
+
+    @Override
+    public EmployerStatsResponse getEmployerStats(Long employerId) {
+        Map<Long, Map<ApplicationStatus, Long>> countsByJob = employerStatsCache.get(employerId);
+
+        Map<ApplicationStatus, Long> totals = new EnumMap<>(ApplicationStatus.class);
+        List<JobStatsResponse> jobs = new ArrayList<>(countsByJob.size());
+        long totalApplications = 0;
+        for (Map.Entry<Long, Map<ApplicationStatus, Long>> entry : countsByJob.entrySet()) {
+            long jobTotal = 0;
+            for (Map.Entry<ApplicationStatus, Long> count : entry.getValue().entrySet()) {
+                totals.merge(count.getKey(), count.getValue(), Long::sum);
+                jobTotal += count.getValue();
+            }
+            totalApplications += jobTotal;
+            jobs.add(JobStatsResponse.builder()
+                    .jobId(entry.getKey())
+                    .totalApplications(jobTotal)
+                    .countsByStatus(entry.getValue())
+                    .build());
+        }
+
+        return EmployerStatsResponse.builder()
+                .totalApplications(totalApplications)
+                .countsByStatus(totals)
+                .jobs(jobs)
+                .build();
+    }
+
+    // Checked before any page query runs. False means the job's owner is unknown, which only
+    // happens for a job without applications, so there is nothing to show.
+    private boolean isJobOwner(Long jobId, Long userId) {
+        Long ownerId = jobOwnershipIndex.ownerOf(jobId);
+        if (ownerId == null) {
+            return false;
+        }
+        if (!ownerId.equals(userId)) {
+            throw new UnauthorizedException("You are not authorized to view these applications");
+        }
+        return true;
+    }
+
     private ApplicationResponse mapToResponse(JobApplication application) {
         return ApplicationResponse.builder()
                 .id(application.getId())
@@ -233,6 +492,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
                 .employerId(application.getEmployerId())
                 .coverLetter(application.getCoverLetter())
                 .resumeUrl(application.getResumeUrl())
+                .skills(splitSkills(application.getSkills()))
                 .status(application.getStatus())
                 .notes(application.getNotes())
                 .appliedAt(application.getAppliedAt())
@@ -240,6 +500,22 @@ public class JobApplicationServiceImpl implements JobApplicationService {
                 .build();
     }
 
+    private String joinSkills(List<String> skills) {
+        if (skills == null) {
+            return null;
+        }
+        String joined = skills.stream()
+                .filter(skill -> skill != null && !skill.isBlank())
+                .map(skill -> skill.trim().replace(",", " "))
+                .distinct()
+                .collect(Collectors.joining(","));
+        return joined.isEmpty() ? null : joined;
+    }
+
+    private List<String> splitSkills(String skills) {
+        return skills == null ? List.of() : Arrays.asList(skills.split(","));
+    }
+
     private PagedResponse<ApplicationResponse> mapToPagedResponse(Page<JobApplication> applicationPage) {
         List<ApplicationResponse> content = applicationPage.getContent().stream()
                 .map(this::mapToResponse)
@@ -259,7 +535,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     @Override
     @Transactional
     public void sendInterviewScheduleEmail(Long applicationId, Long employerId, InterviewScheduleRequest request) {
-        JobApplication application = applicationRepository.findById(applicationId)
+        JobApplication application = applicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(APPLICATION_NOT_FOUND + applicationId));
 
         // Verify employer owns this application's job
@@ -268,8 +544,11 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         }
 
         // Update status to INTERVIEW
+        ApplicationStatus oldStatus = application.getStatus();
         application.setStatus(ApplicationStatus.INTERVIEW);
         applicationRepository.save(application);
+        employerStatsCache.transition(application.getEmployerId(), application.getJobId(),
+                oldStatus, ApplicationStatus.INTERVIEW);
 
         // Send the interview schedule email
         emailService.sendInterviewScheduleEmail(
@@ -287,7 +566,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     @Override
     @Transactional
     public void sendSelectionEmail(Long applicationId, Long employerId, SelectionEmailRequest request) {
-        JobApplication application = applicationRepository.findById(applicationId)
+        JobApplication application = applicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(APPLICATION_NOT_FOUND + applicationId));
 
         // Verify employer owns this application's job
@@ -296,8 +575,11 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         }
 
         // Update status to ACCEPTED
+        ApplicationStatus oldStatus = application.getStatus();
         application.setStatus(ApplicationStatus.ACCEPTED);
         applicationRepository.save(application);
+        employerStatsCache.transition(application.getEmployerId(), application.getJobId(),
+                oldStatus, ApplicationStatus.ACCEPTED);
 
         // Send the selection email
         emailService.sendSelectionEmail(
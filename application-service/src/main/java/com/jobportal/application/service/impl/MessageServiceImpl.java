@@ -1,13 +1,25 @@
 package com.jobportal.application.service.impl;
 
-import com.jobportal.application.client.AuthServiceClient;
+import com.jobportal.application.archive.MessageArchiver;
+import com.jobportal.application.cache.UnreadCounterCache;
+import com.jobportal.application.client.BatchingAuthServiceClient;
 import com.jobportal.application.dto.*;
+import com.jobportal.application.entity.ArchivedMessage;
+import com.jobportal.application.entity.ConversationSummary;
 import com.jobportal.application.entity.Message;
+import com.jobportal.application.event.MessageSentEvent;
+import com.jobportal.application.exception.BadRequestException;
+import com.jobportal.application.repository.ArchivedMessageRepository;
+import com.jobportal.application.repository.ConversationSummaryRepository;
 import com.jobportal.application.repository.MessageRepository;
 import com.jobportal.application.service.MessageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -15,7 +27,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,20 +39,27 @@ import java.util.stream.Collectors;
 public class MessageServiceImpl implements MessageService {
 
     private final MessageRepository messageRepository;
-    private final AuthServiceClient authServiceClient;
+    private final ArchivedMessageRepository archivedMessageRepository;
+    private final MessageArchiver messageArchiver;
+    private final ConversationSummaryRepository conversationSummaryRepository;
+    private final BatchingAuthServiceClient authServiceClient;
+    private final UnreadCounterCache unreadCounterCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String DEFAULT_USER_NAME = "User";
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final Comparator<MessageResponse> CHRONOLOGICAL =
+            Comparator.comparing(MessageResponse::getSentAt).thenComparing(MessageResponse::getId);
 
     @Override
     @Transactional
     public MessageResponse sendMessage(SendMessageRequest request, Long senderId, String senderName) {
         log.info("User {} sending message to user {}", senderId, request.getReceiverId());
 
-        // Get receiver name
-        String receiverName = "User";
-        try {
-            UserResponse receiver = authServiceClient.getUserById(request.getReceiverId());
-            receiverName = receiver.getName();
-        } catch (Exception e) {
-            log.warn("Could not fetch receiver details: {}", e.getMessage());
+        // Get receiver name (cached, or coalesced with concurrent lookups)
+        String receiverName = authServiceClient.getUserName(request.getReceiverId());
+        if (receiverName == null) {
+            receiverName = DEFAULT_USER_NAME;
         }
 
         Message message = Message.builder()
@@ -52,30 +74,121 @@ public class MessageServiceImpl implements MessageService {
                 .build();
 
         Message savedMessage = messageRepository.save(message);
+
+        // Keep both participants' inbox rows current; only the receiver gains an unread message
+        conversationSummaryRepository.recordMessage(senderId, savedMessage.getReceiverId(),
+                savedMessage.getContent(), savedMessage.getSentAt(), 0);
+        conversationSummaryRepository.recordMessage(savedMessage.getReceiverId(), senderId,
+                savedMessage.getContent(), savedMessage.getSentAt(), 1);
+        unreadCounterCache.add(savedMessage.getReceiverId(), 1);
+
         log.info("Message sent successfully with id: {}", savedMessage.getId());
 
-        return mapToResponse(savedMessage);
+        // Delivered to connected clients once the transaction commits
+        MessageResponse response = mapToResponse(savedMessage);
+        eventPublisher.publishEvent(new MessageSentEvent(response));
+
+        return response;
     }
 
     @Override
     public List<MessageResponse> getConversation(Long userId1, Long userId2) {
-        List<Message> messages = messageRepository.findConversation(userId1, userId2);
-        return messages.stream()
+        List<MessageResponse> messages = archivedMessageRepository
+                .findConversation(Math.min(userId1, userId2), Math.max(userId1, userId2)).stream()
                 .map(this::mapToResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+        boolean hasArchived = !messages.isEmpty();
+        messageRepository.findConversation(userId1, userId2).forEach(m -> messages.add(mapToResponse(m)));
+        if (hasArchived) {
+            // Unread messages stay hot, so the two sources can interleave
+            messages.sort(CHRONOLOGICAL);
+        }
+        return messages;
     }
 
     @Override
-    public PagedResponse<MessageResponse> getMessagesByApplication(Long applicationId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "sentAt"));
-        Page<Message> messagePage = messageRepository.findByApplicationId(applicationId, pageable);
+    public MessageHistoryResponse getConversationHistory(Long userId, Long partnerId, Long beforeMessageId, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        Long low = Math.min(userId, partnerId);
+        Long high = Math.max(userId, partnerId);
+        // Fetch one extra row to learn whether an older page exists
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        // The cursor may point at a message that has since been archived
+        MessageResponse cursor = null;
+        if (beforeMessageId != null) {
+            cursor = messageRepository.findById(beforeMessageId)
+                    .filter(m -> low.equals(m.getParticipantLow()) && high.equals(m.getParticipantHigh()))
+                    .map(this::mapToResponse)
+                    .or(() -> archivedMessageRepository.findById(beforeMessageId)
+                            .filter(m -> low.equals(m.getParticipantLow()) && high.equals(m.getParticipantHigh()))
+                            .map(this::mapToResponse))
+                    .orElseThrow(() -> new BadRequestException("Invalid cursor for this conversation"));
+        }
 
-        List<MessageResponse> content = messagePage.getContent().stream()
+        List<Message> hot = cursor == null
+                ? messageRepository.findLatestInConversation(low, high, pageable)
+                : messageRepository.findInConversationBefore(low, high, cursor.getSentAt(), cursor.getId(), pageable);
+        List<MessageResponse> messages = hot.stream()
                 .map(this::mapToResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        // Archived messages all predate the horizon, so a full page that stays newer
+        // than it is already complete
+        boolean reachesArchive = messages.size() <= pageSize
+                || messages.get(messages.size() - 1).getSentAt().isBefore(messageArchiver.horizon());
+        if (reachesArchive) {
+            List<ArchivedMessage> archived = cursor == null
+                    ? archivedMessageRepository.findLatestInConversation(low, high, pageable)
+                    : archivedMessageRepository.findInConversationBefore(
+                            low, high, cursor.getSentAt(), cursor.getId(), pageable);
+            archived.forEach(m -> messages.add(mapToResponse(m)));
+            messages.sort(CHRONOLOGICAL.reversed());
+        }
+
+        boolean hasMore = messages.size() > pageSize;
+        List<MessageResponse> page = new ArrayList<>(messages.subList(0, Math.min(pageSize, messages.size())));
+        Collections.reverse(page);
+
+        return MessageHistoryResponse.builder()
+                .messages(page)
+                .nextCursor(hasMore && !page.isEmpty() ? page.get(0).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    public PagedResponse<MessageResponse> getMessagesByApplication(Long applicationId, int page, int size) {
+        Sort sort = Sort.by(Sort.Direction.ASC, "sentAt", "id");
+        long archivedCount = archivedMessageRepository.countByApplicationId(applicationId);
+
+        Page<MessageResponse> messagePage;
+        if (archivedCount == 0) {
+            messagePage = messageRepository.findByApplicationId(applicationId, PageRequest.of(page, size, sort))
+                    .map(this::mapToResponse);
+        } else {
+            // Unread messages stay hot, so the two sources can interleave: merge the leading
+            // rows of both and cut the requested page out of the result
+            int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE - size);
+            int leading = offset + size;
+
+            Page<Message> hot = messageRepository.findByApplicationId(applicationId, PageRequest.of(0, leading, sort));
+            List<MessageResponse> merged = archivedMessageRepository
+                    .findByApplicationId(applicationId, PageRequest.of(0, leading)).stream()
+                    .map(this::mapToResponse)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            hot.forEach(m -> merged.add(mapToResponse(m)));
+            merged.sort(CHRONOLOGICAL);
+
+            List<MessageResponse> content = offset < merged.size()
+                    ? merged.subList(offset, Math.min(offset + size, merged.size()))
+                    : List.of();
+            messagePage = new PageImpl<>(content, PageRequest.of(page, size, sort),
+                    archivedCount + hot.getTotalElements());
+        }
 
         return PagedResponse.<MessageResponse>builder()
-                .content(content)
+                .content(messagePage.getContent())
                 .pageNumber(messagePage.getNumber())
                 .pageSize(messagePage.getSize())
                 .totalElements(messagePage.getTotalElements())
@@ -87,54 +200,76 @@ public class MessageServiceImpl implements MessageService {
 
     @Override
     public List<ConversationResponse> getConversations(Long userId) {
-        List<Long> partnerIds = messageRepository.findAllConversationPartners(userId);
-        List<ConversationResponse> conversations = new ArrayList<>();
-
-        for (Long partnerId : partnerIds) {
-            List<Message> messages = messageRepository.findConversation(userId, partnerId);
-            if (!messages.isEmpty()) {
-                Message lastMessage = messages.get(messages.size() - 1);
-                
-                String partnerName = "User";
-                try {
-                    UserResponse partner = authServiceClient.getUserById(partnerId);
-                    partnerName = partner.getName();
-                } catch (Exception e) {
-                    log.warn("Could not fetch partner details: {}", e.getMessage());
-                }
-
-                long unreadCount = messages.stream()
-                        .filter(m -> m.getReceiverId().equals(userId) && !m.getIsRead())
-                        .count();
-
-                conversations.add(ConversationResponse.builder()
-                        .partnerId(partnerId)
-                        .partnerName(partnerName)
-                        .lastMessage(lastMessage.getContent())
-                        .lastMessageTime(lastMessage.getSentAt())
-                        .unreadCount(unreadCount)
-                        .build());
-            }
-        }
+        List<ConversationSummary> summaries =
+                conversationSummaryRepository.findByUserIdOrderByLastMessageTimeDesc(userId);
 
-        // Sort by last message time
-        conversations.sort((a, b) -> b.getLastMessageTime().compareTo(a.getLastMessageTime()));
+        Map<Long, String> partnerNames = authServiceClient.getUserNames(
+                summaries.stream().map(ConversationSummary::getPartnerId).collect(Collectors.toList()));
 
-        return conversations;
+        return summaries.stream()
+                .map(summary -> ConversationResponse.builder()
+                        .partnerId(summary.getPartnerId())
+                        .partnerName(partnerNames.getOrDefault(summary.getPartnerId(), DEFAULT_USER_NAME))
+                        .lastMessage(summary.getLastMessage())
+                        .lastMessageTime(summary.getLastMessageTime())
+                        .unreadCount(summary.getUnreadCount())
+                        .build())
+                .collect(Collectors.toList());
     }
 
     @Override
     public long getUnreadCount(Long userId) {
-        return messageRepository.countUnreadMessages(userId);
+        return unreadCounterCache.get(userId);
     }
 
     @Override
     @Transactional
     public void markAsRead(Long userId, Long senderId) {
-        messageRepository.markMessagesAsRead(userId, senderId);
+        int marked = messageRepository.markMessagesAsRead(userId, senderId);
+        if (marked > 0) {
+            conversationSummaryRepository.subtractUnreadCount(userId, senderId, marked);
+        }
+        unreadCounterCache.add(userId, -marked);
         log.info("Messages from {} to {} marked as read", senderId, userId);
     }
 
+    // One-off seeding of the inbox read model for messages sent before it existed
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillConversationSummaries() {
+        if (conversationSummaryRepository.count() > 0 || messageRepository.count() == 0) {
+            return;
+        }
+        int rows = conversationSummaryRepository.rebuildFromMessages();
+        log.info("Backfilled {} conversation summaries from message history", rows);
+    }
+
+    // Messages stored before the conversation key existed need it for history paging
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillConversationKeys() {
+        int rows = messageRepository.backfillParticipants();
+        if (rows > 0) {
+            log.info("Backfilled conversation keys for {} messages", rows);
+        }
+    }
+
+    private MessageResponse mapToResponse(ArchivedMessage message) {
+        // Only read messages are archived
+        return MessageResponse.builder()
+                .id(message.getId())
+                .senderId(message.getSenderId())
+                .senderName(message.getSenderName())
+                .receiverId(message.getReceiverId())
+                .receiverName(message.getReceiverName())
+                .applicationId(message.getApplicationId())
+                .jobId(message.getJobId())
+                .content(message.getContent())
+                .isRead(true)
+                .sentAt(message.getSentAt())
+                .build();
+    }
+
     private MessageResponse mapToResponse(Message message) {
         return MessageResponse.builder()
                 .id(message.getId())
@@ -0,0 +1,98 @@
+package com.jobportal.application.client;
+
+import com.jobportal.application.archive.MessageArchiver;
+import com.jobportal.application.cache.UnreadCounterCache;
+import com.jobportal.application.dto.ConversationResponse;
+import com.jobportal.application.dto.UserResponse;
+import com.jobportal.application.entity.ConversationSummary;
+import com.jobportal.application.repository.ArchivedMessageRepository;
+import com.jobportal.application.repository.ConversationSummaryRepository;
+import com.jobportal.application.repository.MessageRepository;
+import com.jobportal.application.service.impl.MessageServiceImpl;
+import com.jobportal.application.support.StubClients;
+import com.jobportal.application.support.StubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.jobportal.application.support.StubClients.json;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchingAuthServiceClientTest {
+
+    private static final String BATCH_PATH = "/api/auth/users/batch";
+    private static final UserResponse ASHA = UserResponse.builder().id(7L).name("Asha").build();
+
+    private StubServer authService;
+    private BatchingAuthServiceClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        authService = StubServer.start();
+        client = new BatchingAuthServiceClient(StubClients.feign(AuthServiceClient.class, authService, 1000),
+                GuardConfigs.breakers(), GuardConfigs.bulkheads(10), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(client, "maxBatchSize", 100);
+        ReflectionTestUtils.setField(client, "windowMs", 5L);
+        ReflectionTestUtils.setField(client, "threads", 2);
+        // Names expire as soon as they are cached, so every lookup goes to auth-service first
+        ReflectionTestUtils.setField(client, "nameTtlMs", -1L);
+        ReflectionTestUtils.setField(client, "nameCacheMaxSize", 100);
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        authService.close();
+    }
+
+    @Test
+    void fallsBackToExpiredNameWhileAuthServiceFails() {
+        authService.respond(BATCH_PATH, 200, json(List.of(ASHA)), 0);
+        assertThat(client.getUserName(7L)).isEqualTo("Asha");
+
+        authService.respond(BATCH_PATH, 500, "", 0);
+
+        assertThat(client.getUserName(7L)).isEqualTo("Asha");
+        assertThat(client.getUserName(8L)).isNull();
+        assertThat(client.getUserNames(List.of(7L, 8L))).isEqualTo(Map.of(7L, "Asha"));
+        assertThat(authService.hits(BATCH_PATH)).isEqualTo(4);
+    }
+
+    @Test
+    void slowAuthServiceTimesOutToFallback() {
+        authService.respond(BATCH_PATH, 200, json(List.of(ASHA)), 0);
+        client.getUserName(7L);
+
+        authService.respond(BATCH_PATH, 200, json(List.of(ASHA)), 3000);
+
+        long start = System.currentTimeMillis();
+        assertThat(client.getUserName(7L)).isEqualTo("Asha");
+        assertThat(System.currentTimeMillis() - start).isLessThan(2000);
+    }
+
+    @Test
+    void conversationsShowUserWhenNameIsUnavailable() {
+        authService.respond(BATCH_PATH, 500, "", 0);
+        ConversationSummaryRepository summaries = mock(ConversationSummaryRepository.class);
+        when(summaries.findByUserIdOrderByLastMessageTimeDesc(1L)).thenReturn(List.of(ConversationSummary.builder()
+                .userId(1L).partnerId(8L).lastMessage("Hi").lastMessageTime(LocalDateTime.now()).build()));
+        MessageServiceImpl messageService = new MessageServiceImpl(mock(MessageRepository.class),
+                mock(ArchivedMessageRepository.class), mock(MessageArchiver.class), summaries, client,
+                mock(UnreadCounterCache.class), mock(ApplicationEventPublisher.class));
+
+        List<ConversationResponse> conversations = messageService.getConversations(1L);
+
+        assertThat(conversations).singleElement()
+                .satisfies(conversation -> assertThat(conversation.getPartnerName()).isEqualTo("User"));
+    }
+}
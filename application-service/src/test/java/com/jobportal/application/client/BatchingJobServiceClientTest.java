@@ -0,0 +1,90 @@
+package com.jobportal.application.client;
+
+import com.jobportal.application.dto.JobSummaryResponse;
+import com.jobportal.application.support.StubClients;
+import com.jobportal.application.support.StubServer;
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.jobportal.application.support.StubClients.json;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchingJobServiceClientTest {
+
+    private static final String BATCH_PATH = "/api/jobs/batch";
+    private static final JobSummaryResponse JOB = JobSummaryResponse.builder()
+            .id(1L).title("Backend Engineer").companyName("Acme").employerId(99L).status("ACTIVE")
+            .build();
+
+    private StubServer jobService;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BatchingJobServiceClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jobService = StubServer.start();
+        circuitBreakerRegistry = GuardConfigs.breakers();
+        client = new BatchingJobServiceClient(StubClients.feign(JobServiceClient.class, jobService, 1000),
+                circuitBreakerRegistry, GuardConfigs.bulkheads(10), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(client, "maxBatchSize", 100);
+        ReflectionTestUtils.setField(client, "windowMs", 5L);
+        ReflectionTestUtils.setField(client, "threads", 2);
+        ReflectionTestUtils.setField(client, "snapshotCacheMaxSize", 100);
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        jobService.close();
+    }
+
+    @Test
+    void servesSnapshotWhileJobServiceFails() throws Exception {
+        jobService.respond(BATCH_PATH, 200, json(List.of(JOB)), 0);
+        assertThat(client.getJobSummaries(List.of(1L))).containsEntry(1L, JOB);
+
+        jobService.respond(BATCH_PATH, 500, "", 0);
+
+        assertThat(client.getJobSummaries(List.of(1L))).containsEntry(1L, JOB);
+        assertThat(client.getJobSummary(1L).get(5, TimeUnit.SECONDS)).isEqualTo(JOB);
+    }
+
+    @Test
+    void servesSnapshotWithoutCallingJobServiceWhileBreakerIsOpen() {
+        jobService.respond(BATCH_PATH, 200, json(List.of(JOB)), 0);
+        client.getJobSummaries(List.of(1L));
+
+        jobService.respond(BATCH_PATH, 500, "", 0);
+        for (int i = 0; i < GuardConfigs.MINIMUM_CALLS; i++) {
+            client.getJobSummaries(List.of(1L));
+        }
+        assertThat(circuitBreakerRegistry.circuitBreaker("jobService").getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+        int hits = jobService.hits(BATCH_PATH);
+
+        Map<Long, JobSummaryResponse> jobs = client.getJobSummaries(List.of(1L));
+
+        assertThat(jobs).containsEntry(1L, JOB);
+        assertThat(jobService.hits(BATCH_PATH)).isEqualTo(hits);
+    }
+
+    @Test
+    void failsWhenNoSnapshotExists() {
+        jobService.respond(BATCH_PATH, 500, "", 0);
+
+        assertThatThrownBy(() -> client.getJobSummaries(List.of(2L)))
+                .isInstanceOf(FeignException.class);
+    }
+}
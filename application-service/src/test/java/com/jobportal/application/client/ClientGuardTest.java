@@ -0,0 +1,135 @@
+package com.jobportal.application.client;
+
+import com.jobportal.application.dto.JobBatchRequest;
+import com.jobportal.application.support.StubClients;
+import com.jobportal.application.support.StubServer;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientGuardTest {
+
+    private static final String BATCH_PATH = "/api/jobs/batch";
+    private static final JobBatchRequest REQUEST = new JobBatchRequest(List.of(1L));
+
+    private StubServer jobService;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jobService = StubServer.start();
+        circuitBreakerRegistry = GuardConfigs.breakers();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.close();
+    }
+
+    @Test
+    void breakerOpensOnFailuresAndFailsFast() {
+        jobService.respond(BATCH_PATH, 500, "", 0);
+        JobServiceClient client = StubClients.feign(JobServiceClient.class, jobService, 1000);
+        ClientGuard guard = guard(10);
+
+        for (int i = 0; i < GuardConfigs.MINIMUM_CALLS; i++) {
+            assertThatThrownBy(() -> guard.call(() -> client.getJobsByIds(REQUEST)))
+                    .isInstanceOf(FeignException.class);
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker("jobService").getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> guard.call(() -> client.getJobsByIds(REQUEST)))
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(jobService.hits(BATCH_PATH)).isEqualTo(GuardConfigs.MINIMUM_CALLS);
+    }
+
+    @Test
+    void breakerOpensOnTimeouts() {
+        jobService.respond(BATCH_PATH, 200, "[]", 500);
+        JobServiceClient client = StubClients.feign(JobServiceClient.class, jobService, 100);
+        ClientGuard guard = guard(10);
+
+        for (int i = 0; i < GuardConfigs.MINIMUM_CALLS; i++) {
+            assertThatThrownBy(() -> guard.call(() -> client.getJobsByIds(REQUEST)))
+                    .isInstanceOf(FeignException.class);
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker("jobService").getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void breakerOpensOnSlowSuccessfulCalls() {
+        jobService.respond(BATCH_PATH, 200, "[]", GuardConfigs.SLOW_CALL_THRESHOLD.toMillis() * 2);
+        JobServiceClient client = StubClients.feign(JobServiceClient.class, jobService, 1000);
+        ClientGuard guard = guard(10);
+
+        for (int i = 0; i < GuardConfigs.MINIMUM_CALLS; i++) {
+            assertThat(guard.call(() -> client.getJobsByIds(REQUEST))).isEmpty();
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker("jobService").getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void bulkheadRejectsOnceFullAndCountsRejections() throws Exception {
+        jobService.respond(BATCH_PATH, 200, "[]", 500);
+        JobServiceClient client = StubClients.feign(JobServiceClient.class, jobService, 2000);
+        ClientGuard guard = guard(2);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> inFlight = List.of(
+                    callers.submit(() -> guard.call(() -> client.getJobsByIds(REQUEST))),
+                    callers.submit(() -> guard.call(() -> client.getJobsByIds(REQUEST))));
+            awaitInFlight(2);
+
+            assertThatThrownBy(() -> guard.call(() -> client.getJobsByIds(REQUEST)))
+                    .isInstanceOf(BulkheadFullException.class);
+            assertThat(meterRegistry.get("app.client.bulkhead.rejected").tag("client", "jobService").counter().count())
+                    .isEqualTo(1.0);
+
+            for (Future<?> call : inFlight) {
+                call.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        // Rejections never reach the service and do not count against the breaker
+        assertThat(jobService.hits(BATCH_PATH)).isEqualTo(2);
+        assertThat(circuitBreakerRegistry.circuitBreaker("jobService").getMetrics().getNumberOfFailedCalls())
+                .isZero();
+    }
+
+    private ClientGuard guard(int maxConcurrentCalls) {
+        return new ClientGuard("jobService", circuitBreakerRegistry,
+                GuardConfigs.bulkheads(maxConcurrentCalls), meterRegistry);
+    }
+
+    private void awaitInFlight(int calls) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (jobService.inFlight() < calls) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
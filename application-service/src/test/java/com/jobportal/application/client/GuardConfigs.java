@@ -0,0 +1,40 @@
+package com.jobportal.application.client;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+import java.time.Duration;
+
+// Same shape as the resilience4j defaults in application.yml, scaled down so a handful of
+// calls trips the breaker
+final class GuardConfigs {
+
+    static final int MINIMUM_CALLS = 4;
+    static final Duration SLOW_CALL_THRESHOLD = Duration.ofMillis(100);
+
+    private GuardConfigs() {
+    }
+
+    static CircuitBreakerRegistry breakers() {
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(MINIMUM_CALLS)
+                .minimumNumberOfCalls(MINIMUM_CALLS)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(SLOW_CALL_THRESHOLD)
+                .slowCallRateThreshold(80)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+    }
+
+    static BulkheadRegistry bulkheads(int maxConcurrentCalls) {
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+}
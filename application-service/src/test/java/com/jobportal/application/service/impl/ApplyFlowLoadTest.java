@@ -0,0 +1,232 @@
+package com.jobportal.application.service.impl;
+
+import com.jobportal.application.cache.AppliedPairFilter;
+import com.jobportal.application.cache.EmployerStatsCache;
+import com.jobportal.application.cache.JobOwnershipIndex;
+import com.jobportal.application.client.AuthServiceClient;
+import com.jobportal.application.client.BatchingJobServiceClient;
+import com.jobportal.application.client.JobServiceClient;
+import com.jobportal.application.dto.CreateApplicationRequest;
+import com.jobportal.application.dto.JobBatchRequest;
+import com.jobportal.application.dto.JobSummaryResponse;
+import com.jobportal.application.entity.JobApplication;
+import com.jobportal.application.repository.JobApplicationRepository;
+import com.jobportal.application.scoring.ApplicantScorer;
+import com.jobportal.application.service.EmailService;
+import com.jobportal.application.support.StubClients;
+import com.jobportal.application.support.StubServer;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static com.jobportal.application.support.StubClients.json;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Applies concurrently while job-service answers slowly, and samples the Hikari pool throughout.
+// The old flow (lookup inside the transaction) is replayed alongside for comparison: it pins a
+// connection for every in-flight lookup, so the pool saturates and callers queue for it.
+// Asserts on what the pool holds while a lookup is in flight rather than on timings; throughput
+// is only logged.
+@Slf4j
+class ApplyFlowLoadTest {
+
+    private static final int POOL_SIZE = 5;
+    private static final int APPLICANTS = 50;
+    private static final long JOB_SERVICE_DELAY_MS = 300;
+    private static final long LOCAL_WRITE_MS = 2;
+    private static final long JOB_ID = 1L;
+    private static final long EMPLOYER_ID = 999L;
+
+    private final AtomicInteger lookupsInFlight = new AtomicInteger();
+
+    private StubServer jobService;
+    private HikariDataSource dataSource;
+    private TransactionTemplate transactionTemplate;
+    private JobServiceClient jobServiceClient;
+    private BatchingJobServiceClient batchingJobServiceClient;
+    private JobApplicationRepository applicationRepository;
+    private JobApplicationServiceImpl applicationService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jobService = StubServer.start();
+        JobSummaryResponse job = JobSummaryResponse.builder()
+                .id(JOB_ID).title("Backend Engineer").companyName("Acme").employerId(EMPLOYER_ID).status("ACTIVE")
+                .build();
+        jobService.respond("/api/jobs/batch", 200, json(List.of(job)), JOB_SERVICE_DELAY_MS);
+        // In production the increment is @Async; here it runs inline, so keep it fast
+        jobService.respond("/api/jobs/" + JOB_ID + "/increment-applications", 200, "", 0);
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:apply-flow-load;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setConnectionTimeout(30_000);
+        dataSource = new HikariDataSource(config);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jobServiceClient = countingLookups(StubClients.feign(JobServiceClient.class, jobService, 5000));
+        batchingJobServiceClient = new BatchingJobServiceClient(jobServiceClient,
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+        // Every apply joins one batch, flushed when it is full, so no insert overlaps a lookup
+        ReflectionTestUtils.setField(batchingJobServiceClient, "maxBatchSize", APPLICANTS);
+        ReflectionTestUtils.setField(batchingJobServiceClient, "windowMs", 10_000L);
+        ReflectionTestUtils.setField(batchingJobServiceClient, "threads", 4);
+        ReflectionTestUtils.setField(batchingJobServiceClient, "snapshotCacheMaxSize", 10_000);
+        ReflectionTestUtils.invokeMethod(batchingJobServiceClient, "init");
+
+        // Stands in for the insert: the connection is held for LOCAL_WRITE_MS
+        applicationRepository = mock(JobApplicationRepository.class);
+        AtomicLong ids = new AtomicLong();
+        when(applicationRepository.save(any(JobApplication.class))).thenAnswer(invocation -> {
+            JobApplication application = invocation.getArgument(0);
+            Thread.sleep(LOCAL_WRITE_MS);
+            application.setId(ids.incrementAndGet());
+            return application;
+        });
+
+        applicationService = new JobApplicationServiceImpl(applicationRepository, batchingJobServiceClient,
+                mock(AuthServiceClient.class), mock(EmailService.class), transactionTemplate,
+                mock(EmployerStatsCache.class), mock(ApplicantScorer.class), mock(AppliedPairFilter.class),
+                mock(JobOwnershipIndex.class));
+        ReflectionTestUtils.setField(applicationService, "jobLookupTimeoutMs", 10_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(batchingJobServiceClient, "shutdown");
+        dataSource.close();
+        jobService.close();
+    }
+
+    @Test
+    void slowJobServiceDoesNotPinPooledConnections() throws Exception {
+        LoadResult lookupInsideTransaction = run(applicantId -> transactionTemplate.execute(status -> {
+            JobSummaryResponse job = jobServiceClient.getJobsByIds(new JobBatchRequest(List.of(JOB_ID))).get(0);
+            return applicationRepository.save(JobApplication.builder()
+                    .jobId(JOB_ID).applicantId(applicantId).employerId(job.getEmployerId())
+                    .build());
+        }));
+
+        LoadResult applyForJob = run(applicantId -> applicationService.applyForJob(
+                CreateApplicationRequest.builder().jobId(JOB_ID).coverLetter("Hello").build(),
+                applicantId, "Applicant " + applicantId, "applicant" + applicantId + "@example.com"));
+
+        log.info("{} applies, pool {}, job-service {} ms", APPLICANTS, POOL_SIZE, JOB_SERVICE_DELAY_MS);
+        log.info("lookup inside transaction: {}", lookupInsideTransaction);
+        log.info("applyForJob:               {}", applyForJob);
+
+        // The old flow holds a connection across each lookup and queues the rest of the callers
+        assertThat(lookupInsideTransaction.peakActiveDuringLookup()).isEqualTo(POOL_SIZE);
+        assertThat(lookupInsideTransaction.peakWaiting()).isPositive();
+
+        // applyForJob holds none while the lookup is in flight (at most one for the duplicate
+        // check), and only borrows them for the insert afterwards
+        assertThat(applyForJob.peakActiveDuringLookup()).isLessThanOrEqualTo(1);
+    }
+
+    // Counts batch lookups while they are in flight; other calls pass straight through
+    private JobServiceClient countingLookups(JobServiceClient client) {
+        return (JobServiceClient) Proxy.newProxyInstance(JobServiceClient.class.getClassLoader(),
+                new Class<?>[]{JobServiceClient.class}, (proxy, method, args) -> {
+                    boolean lookup = method.getName().equals("getJobsByIds");
+                    if (lookup) {
+                        lookupsInFlight.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(client, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if (lookup) {
+                            lookupsInFlight.decrementAndGet();
+                        }
+                    }
+                });
+    }
+
+    private LoadResult run(LongConsumer apply) throws Exception {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        AtomicInteger peakActive = new AtomicInteger();
+        AtomicInteger peakActiveDuringLookup = new AtomicInteger();
+        AtomicInteger peakWaiting = new AtomicInteger();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService applicants = Executors.newFixedThreadPool(APPLICANTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (long applicantId = 1; applicantId <= APPLICANTS; applicantId++) {
+                long id = applicantId;
+                results.add(applicants.submit(() -> {
+                    start.await();
+                    apply.accept(id);
+                    return null;
+                }));
+            }
+
+            sampler.scheduleAtFixedRate(() -> {
+                // Pool first: a lookup still in flight afterwards was in flight (or not yet
+                // started) when the pool was read
+                int active = pool.getActiveConnections();
+                peakActive.accumulateAndGet(active, Math::max);
+                peakWaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                if (lookupsInFlight.get() > 0) {
+                    peakActiveDuringLookup.accumulateAndGet(active, Math::max);
+                }
+            }, 0, 1, TimeUnit.MILLISECONDS);
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+            return new LoadResult(elapsedMs, peakActive.get(), peakActiveDuringLookup.get(), peakWaiting.get());
+        } finally {
+            sampler.shutdownNow();
+            applicants.shutdownNow();
+        }
+    }
+
+    private record LoadResult(long elapsedMs, int peakActive, int peakActiveDuringLookup, int peakWaiting) {
+
+        double throughputPerSecond() {
+            return APPLICANTS * 1000.0 / Math.max(1, elapsedMs);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d ms, %.1f applies/s, pool active peak %d (%d during lookups), peak waiting %d",
+                    elapsedMs, throughputPerSecond(), peakActive, peakActiveDuringLookup, peakWaiting);
+        }
+    }
+}
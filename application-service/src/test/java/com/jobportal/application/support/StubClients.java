@@ -0,0 +1,63 @@
+package com.jobportal.application.support;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Feign;
+import feign.Request;
+import feign.Retryer;
+import feign.codec.Decoder;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Builds the real Feign client interfaces against a StubServer, with the same contract,
+// no retries and short timeouts, so guard behaviour can be tested without a Spring context
+public final class StubClients {
+
+    public static final ObjectMapper MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private StubClients() {
+    }
+
+    public static <T> T feign(Class<T> type, StubServer server, long readTimeoutMs) {
+        Encoder encoder = (object, bodyType, template) -> {
+            try {
+                template.header("Content-Type", "application/json");
+                template.body(MAPPER.writeValueAsBytes(object), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new EncodeException(e.getMessage(), e);
+            }
+        };
+        Decoder decoder = (response, returnType) -> {
+            if (response.body() == null) {
+                return null;
+            }
+            try (InputStream body = response.body().asInputStream()) {
+                return MAPPER.readValue(body, MAPPER.constructType(returnType));
+            }
+        };
+
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder(encoder)
+                .decoder(decoder)
+                .retryer(Retryer.NEVER_RETRY)
+                .options(new Request.Options(1000, TimeUnit.MILLISECONDS, readTimeoutMs, TimeUnit.MILLISECONDS, true))
+                .target(type, server.url());
+    }
+
+    public static String json(Object value) {
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
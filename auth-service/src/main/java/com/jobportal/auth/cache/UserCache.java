@@ -0,0 +1,55 @@
+package com.jobportal.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.auth.dto.UserResponse;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Public user profiles by id, for the lookups other services make on every request. Writes on
+// this instance drop their entry once committed; changes made through another instance show up
+// within the TTL. Credentials are never cached: login always reads the user from the database.
+@Component
+public class UserCache {
+
+    @Value("${app.users.cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${app.users.cache.max-size:10000}")
+    private int maxSize;
+
+    private Cache<Long, UserResponse> byId;
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public UserResponse get(Long userId) {
+        return byId.getIfPresent(userId);
+    }
+
+    // Take this before reading the user from the database and pass it to put()
+    public long generation() {
+        return generation.get();
+    }
+
+    // Skipped if an invalidation ran since the read began: the row may predate that change
+    public void put(UserResponse user, long loadedAt) {
+        byId.asMap().compute(user.getId(), (id, existing) -> generation.get() == loadedAt ? user : existing);
+    }
+
+    // Bumps the generation first, so a read still in flight cannot put the old row back
+    public void invalidate(Long userId) {
+        generation.incrementAndGet();
+        byId.invalidate(userId);
+    }
+}
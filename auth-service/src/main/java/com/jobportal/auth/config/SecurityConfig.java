@@ -1,7 +1,9 @@
 package com.jobportal.auth.config;
 
 import com.jobportal.auth.security.CustomUserDetailsService;
+import com.jobportal.auth.security.ExecutorPasswordEncoder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,7 +14,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -24,13 +25,32 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
 
+    @Value("${app.password.bcrypt-strength:0}")
+    private int bcryptStrength;
+
+    @Value("${app.password.target-hash-ms:250}")
+    private long targetHashMs;
+
+    @Value("${app.password.threads:0}")
+    private int hashThreads;
+
+    @Value("${app.password.queue-capacity:100}")
+    private int hashQueueCapacity;
+
+    @Value("${app.password.wait-timeout-ms:5000}")
+    private long hashWaitTimeoutMs;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/validate").permitAll()
+                .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/refresh", "/api/auth/refresh/revoke", "/api/auth/validate", "/api/auth/validate/batch").permitAll()
+                // Service-to-service only: the gateway refuses these paths (app.internal-routes there)
+                .requestMatchers("/api/auth/users/**", "/api/auth/revocations").permitAll()
+                // The gateway verifies the token and supplies X-User-Id
+                .requestMatchers("/api/auth/logout", "/api/auth/logout-all").permitAll()
                 .anyRequest().authenticated()
             );
 
@@ -39,7 +59,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new ExecutorPasswordEncoder(bcryptStrength, targetHashMs, hashThreads, hashQueueCapacity, hashWaitTimeoutMs);
     }
 
     @Bean
@@ -47,6 +67,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Rehashes stored passwords made with an older, cheaper cost on successful login
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
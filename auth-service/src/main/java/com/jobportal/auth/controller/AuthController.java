@@ -1,13 +1,20 @@
 package com.jobportal.auth.controller;
 
 import com.jobportal.auth.dto.*;
+import com.jobportal.auth.security.RevocationFeed;
 import com.jobportal.auth.service.AuthService;
+import com.jobportal.auth.service.RefreshTokenService;
+import com.jobportal.auth.service.RevocationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -16,6 +23,9 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final RevocationService revocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final RevocationFeed revocationFeed;
 
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
@@ -31,6 +41,41 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
+    // Needs no access token, which has often expired by the time a user logs out
+    @PostMapping("/refresh/revoke")
+    public ResponseEntity<Void> revokeRefreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        log.info("Logout request for userId: {}", userId);
+        if (authHeader.startsWith("Bearer ")) {
+            revocationService.revokeToken(userId, authHeader.substring(7));
+        }
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(userId, request.getRefreshToken());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@RequestHeader("X-User-Id") Long userId) {
+        log.info("Logout from all sessions for userId: {}", userId);
+        revocationService.revokeAllForUser(userId);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/me")
     public ResponseEntity<UserResponse> getCurrentUser(
             @RequestHeader("X-User-Id") Long userId) {
@@ -55,9 +100,30 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/users/batch")
+    public ResponseEntity<List<UserResponse>> getUsersByIds(@Valid @RequestBody UserBatchRequest request) {
+        log.info("Batch user lookup for {} ids", request.getUserIds().size());
+        List<UserResponse> response = authService.getUsersByIds(request.getUserIds());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/validate")
     public ResponseEntity<Boolean> validateToken(@RequestParam(name = "token") String token) {
         boolean isValid = authService.validateToken(token);
         return ResponseEntity.ok(isValid);
     }
+
+    @PostMapping("/validate/batch")
+    public ResponseEntity<List<TokenValidationResponse>> validateTokens(
+            @Valid @RequestBody TokenBatchValidationRequest request) {
+        List<TokenValidationResponse> response = authService.validateTokens(request.getTokens());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/revocations")
+    public DeferredResult<RevocationFeedResponse> getRevocations(
+            @RequestParam(name = "after", defaultValue = "0") Long afterId,
+            @RequestParam(name = "waitMs", defaultValue = "0") long waitMs) {
+        return revocationFeed.poll(afterId, waitMs);
+    }
 }
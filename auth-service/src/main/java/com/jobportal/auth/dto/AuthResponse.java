@@ -12,6 +12,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class AuthResponse {
     private String token;
+    private String refreshToken;
+    private Long expiresIn;  // Access token lifetime in seconds
     private String tokenType = "Bearer";
     private Long userId;
     private String name;
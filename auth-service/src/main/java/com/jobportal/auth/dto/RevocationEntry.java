@@ -0,0 +1,19 @@
+package com.jobportal.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Times are epoch milliseconds so the gateway can compare them with token claims directly
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationEntry {
+    private Long id;
+    private String tokenId;
+    private Long userId;
+    private Long notBefore;
+    private Long expiresAt;
+}
@@ -0,0 +1,18 @@
+package com.jobportal.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationFeedResponse {
+    private List<RevocationEntry> entries;
+    private Long lastId;
+    private boolean hasMore;
+}
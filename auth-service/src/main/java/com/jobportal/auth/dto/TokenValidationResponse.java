@@ -0,0 +1,20 @@
+package com.jobportal.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenValidationResponse {
+    private boolean valid;
+    private Long userId;
+    private String email;
+    private String role;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,4 @@
+package com.jobportal.auth.event;
+
+public record TokensRevokedEvent(Long userId) {
+}
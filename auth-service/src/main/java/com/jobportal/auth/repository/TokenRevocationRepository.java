@@ -0,0 +1,34 @@
+package com.jobportal.auth.repository;
+
+import com.jobportal.auth.entity.TokenRevocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    List<TokenRevocation> findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(Long afterId, LocalDateTime now, Pageable pageable);
+
+    // Revoked by id, or issued no later than one of the user's cut-offs (both in whole seconds)
+    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM TokenRevocation r " +
+           "WHERE r.userId = :userId AND r.expiresAt > :now " +
+           "AND (r.tokenId = :tokenId OR r.notBefore >= :issuedAt)")
+    boolean isRevoked(@Param("userId") Long userId,
+                      @Param("tokenId") String tokenId,
+                      @Param("issuedAt") LocalDateTime issuedAt,
+                      @Param("now") LocalDateTime now);
+
+    @Query("SELECT COALESCE(MAX(r.id), 0) FROM TokenRevocation r")
+    Long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
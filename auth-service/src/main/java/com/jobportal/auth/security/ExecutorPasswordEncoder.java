@@ -0,0 +1,105 @@
+package com.jobportal.auth.security;
+
+import com.jobportal.auth.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// BCrypt on its own bounded pool, so a login spike queues here instead of tying up every
+// request thread; lookups like /users/{id} keep their threads. When the queue is full, or a
+// hash waits too long, the caller gets a 503 straight away rather than piling up.
+@Slf4j
+public class ExecutorPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMs;
+
+    // strength 0 calibrates the cost so one hash takes about targetHashMs on this machine
+    public ExecutorPasswordEncoder(int strength, long targetHashMs, int threads, int queueCapacity, long waitTimeoutMs) {
+        int cost = strength > 0 ? strength : calibrate(targetHashMs);
+        this.delegate = new BCryptPasswordEncoder(cost);
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"));
+        log.info("Password hashing uses BCrypt cost {} on {} threads", cost, poolSize);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // True for hashes made with a lower cost; DaoAuthenticationProvider then rehashes on login
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Too many concurrent sign-ins, please retry shortly");
+        }
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("Too many concurrent sign-ins, please retry shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailableException("Password check interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Each cost step doubles the work, so one timed hash at the minimum cost is enough to pick it
+    private static int calibrate(long targetHashMs) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode(CALIBRATION_PASSWORD);  // warm-up
+
+        long start = System.nanoTime();
+        probe.encode(CALIBRATION_PASSWORD);
+        double elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000.0);
+
+        int cost = MIN_STRENGTH + (int) Math.floor(Math.log(targetHashMs / elapsedMs) / Math.log(2));
+        cost = Math.max(MIN_STRENGTH, Math.min(MAX_STRENGTH, cost));
+        log.info("Calibrated BCrypt cost {} for a {} ms target ({} ms at cost {})",
+                cost, targetHashMs, Math.round(elapsedMs), MIN_STRENGTH);
+        return cost;
+    }
+}
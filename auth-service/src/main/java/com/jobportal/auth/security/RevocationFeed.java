@@ -0,0 +1,89 @@
+package com.jobportal.auth.security;
+
+import com.jobportal.auth.dto.RevocationFeedResponse;
+import com.jobportal.auth.event.TokensRevokedEvent;
+import com.jobportal.auth.service.RevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Long-poll endpoint behind the gateways' revocation lists. A poll with nothing new is parked
+// as an async request until a revocation commits here, another instance's revocation shows up
+// in the table, or the wait runs out.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationFeed {
+
+    private final RevocationService revocationService;
+
+    @Value("${app.revocations.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    private final Map<DeferredResult<RevocationFeedResponse>, Long> waiters = new ConcurrentHashMap<>();
+    private final AtomicLong latestSeenId = new AtomicLong();
+
+    public DeferredResult<RevocationFeedResponse> poll(Long afterId, long waitMs) {
+        long timeout = Math.max(0, Math.min(waitMs, maxWaitMs));
+        RevocationFeedResponse empty = RevocationFeedResponse.builder()
+                .entries(List.of())
+                .lastId(afterId)
+                .hasMore(false)
+                .build();
+        DeferredResult<RevocationFeedResponse> result = new DeferredResult<>(timeout, () -> empty);
+
+        RevocationFeedResponse response = revocationService.getRevocationsAfter(afterId);
+        if (!response.getEntries().isEmpty() || timeout == 0) {
+            result.setResult(response);
+            return result;
+        }
+
+        waiters.put(result, afterId);
+        result.onCompletion(() -> waiters.remove(result));
+
+        // A revocation may have committed between the query and registering the waiter
+        wake();
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTokensRevoked(TokensRevokedEvent event) {
+        wake();
+    }
+
+    // Picks up revocations written by other auth-service instances
+    @Scheduled(fixedDelayString = "${app.revocations.poll-ms:1000}")
+    public void checkForNewRevocations() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        long latest = revocationService.getLatestRevocationId();
+        if (latest > latestSeenId.getAndAccumulate(latest, Math::max)) {
+            wake();
+        }
+    }
+
+    private void wake() {
+        waiters.forEach((result, afterId) -> {
+            try {
+                RevocationFeedResponse response = revocationService.getRevocationsAfter(afterId);
+                if (!response.getEntries().isEmpty()) {
+                    waiters.remove(result);
+                    result.setResult(response);
+                }
+            } catch (Exception e) {
+                log.warn("Could not load revocations after {}: {}", afterId, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.jobportal.auth.security;
+
+import com.jobportal.auth.entity.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+
+// Keeps the loaded user on the authenticated principal, so login does not read it a second time
+public class UserPrincipal extends org.springframework.security.core.userdetails.User {
+
+    private final User user;
+
+    public UserPrincipal(User user) {
+        super(
+                user.getEmail(),
+                user.getPassword(),
+                user.getEnabled(),
+                true,
+                true,
+                true,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+        );
+        this.user = user;
+    }
+
+    public User getUser() {
+        return user;
+    }
+}
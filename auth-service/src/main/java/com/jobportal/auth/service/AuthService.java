@@ -3,11 +3,16 @@ package com.jobportal.auth.service;
 import com.jobportal.auth.dto.*;
 import com.jobportal.auth.entity.User;
 
+import java.util.List;
+
 public interface AuthService {
     AuthResponse register(RegisterRequest request);
     AuthResponse login(LoginRequest request);
+    AuthResponse refresh(RefreshTokenRequest request);
     UserResponse getCurrentUser(Long userId);
     UserResponse updateUser(Long userId, UpdateUserRequest request);
     UserResponse getUserById(Long userId);
+    List<UserResponse> getUsersByIds(List<Long> userIds);
     boolean validateToken(String token);
+    List<TokenValidationResponse> validateTokens(List<String> tokens);
 }
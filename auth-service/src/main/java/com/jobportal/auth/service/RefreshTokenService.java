@@ -0,0 +1,14 @@
+package com.jobportal.auth.service;
+
+import com.jobportal.auth.entity.User;
+
+public interface RefreshTokenService {
+    String issue(User user);
+    Rotation rotate(String refreshToken);
+    void revoke(Long userId, String refreshToken);
+    void revoke(String refreshToken);
+    void revokeAllForUser(Long userId);
+
+    record Rotation(User user, String refreshToken) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.jobportal.auth.service;
+
+import com.jobportal.auth.dto.RevocationFeedResponse;
+import io.jsonwebtoken.Claims;
+
+public interface RevocationService {
+    void revokeToken(Long userId, String token);
+    void revokeAllForUser(Long userId);
+    RevocationFeedResponse getRevocationsAfter(Long afterId);
+    Long getLatestRevocationId();
+    boolean isRevoked(Claims claims);
+}
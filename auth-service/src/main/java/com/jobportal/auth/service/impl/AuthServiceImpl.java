@@ -1,5 +1,6 @@
 package com.jobportal.auth.service.impl;
 
+import com.jobportal.auth.cache.UserCache;
 import com.jobportal.auth.dto.*;
 import com.jobportal.auth.entity.Role;
 import com.jobportal.auth.entity.User;
@@ -7,14 +8,28 @@ import com.jobportal.auth.exception.BadRequestException;
 import com.jobportal.auth.exception.ResourceNotFoundException;
 import com.jobportal.auth.repository.UserRepository;
 import com.jobportal.auth.security.JwtTokenProvider;
+import com.jobportal.auth.security.UserPrincipal;
 import com.jobportal.auth.service.AuthService;
+import com.jobportal.auth.service.RefreshTokenService;
+import com.jobportal.auth.service.RevocationService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,9 +40,20 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
+    private final RevocationService revocationService;
+    private final UserCache userCache;
+
+    @Value("${app.users.batch-max-size:100}")
+    private int batchMaxSize;
+
+    @Value("${app.tokens.validate-batch-max-size:100}")
+    private int validateBatchMaxSize;
 
+    // Not @Transactional: the hash can queue on the password pool for seconds, and must not hold
+    // a pooled connection meanwhile. save() and issue() each run in their own short transaction;
+    // a concurrent duplicate email still fails on the unique constraint.
     @Override
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         log.info("Registering new user with email: {}", request.getEmail());
 
@@ -35,17 +61,21 @@ public class AuthServiceImpl implements AuthService {
             throw new BadRequestException("Email is already registered");
         }
 
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
+
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .role(request.getRole())
                 .companyName(request.getRole() == Role.EMPLOYER ? request.getCompanyName() : null)
                 .phoneNumber(request.getPhoneNumber())
                 .enabled(true)
                 .build();
 
+        long cacheGeneration = userCache.generation();
         User savedUser = userRepository.save(user);
+        userCache.put(mapToUserResponse(savedUser), cacheGeneration);
         log.info("User registered successfully with id: {}", savedUser.getId());
 
         String token = jwtTokenProvider.generateToken(
@@ -56,6 +86,8 @@ public class AuthServiceImpl implements AuthService {
 
         return AuthResponse.builder()
                 .token(token)
+                .refreshToken(refreshTokenService.issue(savedUser))
+                .expiresIn(jwtTokenProvider.getExpirationMs() / 1000)
                 .tokenType("Bearer")
                 .userId(savedUser.getId())
                 .name(savedUser.getName())
@@ -69,12 +101,14 @@ public class AuthServiceImpl implements AuthService {
     public AuthResponse login(LoginRequest request) {
         log.info("User login attempt for email: {}", request.getEmail());
 
-        authenticationManager.authenticate(
+        long cacheGeneration = userCache.generation();
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
         );
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BadRequestException("Invalid email or password"));
+        // The user was already read to check the password; no second lookup
+        User user = ((UserPrincipal) authentication.getPrincipal()).getUser();
+        userCache.put(mapToUserResponse(user), cacheGeneration);
 
         String token = jwtTokenProvider.generateToken(
                 user.getId(),
@@ -86,6 +120,8 @@ public class AuthServiceImpl implements AuthService {
 
         return AuthResponse.builder()
                 .token(token)
+                .refreshToken(refreshTokenService.issue(user))
+                .expiresIn(jwtTokenProvider.getExpirationMs() / 1000)
                 .tokenType("Bearer")
                 .userId(user.getId())
                 .name(user.getName())
@@ -95,12 +131,45 @@ public class AuthServiceImpl implements AuthService {
                 .build();
     }
 
+    @Override
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        // No password check here: the refresh token itself is the credential
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        User user = rotation.user();
+
+        String token = jwtTokenProvider.generateToken(
+                user.getId(),
+                user.getEmail(),
+                user.getRole().name()
+        );
+
+        return AuthResponse.builder()
+                .token(token)
+                .refreshToken(rotation.refreshToken())
+                .expiresIn(jwtTokenProvider.getExpirationMs() / 1000)
+                .tokenType("Bearer")
+                .userId(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .message("Token refreshed")
+                .build();
+    }
+
     @Override
     public UserResponse getCurrentUser(Long userId) {
+        UserResponse cached = userCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long cacheGeneration = userCache.generation();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        return mapToUserResponse(user);
+        UserResponse response = mapToUserResponse(user);
+        userCache.put(response, cacheGeneration);
+        return response;
     }
 
     @Override
@@ -128,20 +197,100 @@ public class AuthServiceImpl implements AuthService {
         User updatedUser = userRepository.save(user);
         log.info("User updated successfully: {}", updatedUser.getId());
 
+        // Dropped only once committed, so a rollback never leaves uncommitted data cached
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userCache.invalidate(userId);
+            }
+        });
         return mapToUserResponse(updatedUser);
     }
 
     @Override
     public UserResponse getUserById(Long userId) {
+        UserResponse cached = userCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long cacheGeneration = userCache.generation();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
-        return mapToUserResponse(user);
+        UserResponse response = mapToUserResponse(user);
+        userCache.put(response, cacheGeneration);
+        return response;
+    }
+
+    @Override
+    public List<UserResponse> getUsersByIds(List<Long> userIds) {
+        List<Long> distinctIds = userIds.stream().distinct().collect(Collectors.toList());
+        if (distinctIds.size() > batchMaxSize) {
+            throw new BadRequestException("At most " + batchMaxSize + " user IDs can be requested at once");
+        }
+
+        List<UserResponse> users = new ArrayList<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long userId : distinctIds) {
+            UserResponse cached = userCache.get(userId);
+            if (cached != null) {
+                users.add(cached);
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long cacheGeneration = userCache.generation();
+            for (User user : userRepository.findAllById(misses)) {
+                UserResponse response = mapToUserResponse(user);
+                userCache.put(response, cacheGeneration);
+                users.add(response);
+            }
+        }
+        return users;
     }
 
     @Override
     public boolean validateToken(String token) {
-        return jwtTokenProvider.validateToken(token);
+        return parseUnrevokedClaims(token) != null;
+    }
+
+    @Override
+    public List<TokenValidationResponse> validateTokens(List<String> tokens) {
+        if (tokens.size() > validateBatchMaxSize) {
+            throw new BadRequestException("At most " + validateBatchMaxSize + " tokens can be validated at once");
+        }
+        // Results are returned in request order, one per token
+        return tokens.stream()
+                .map(this::mapToValidationResponse)
+                .collect(Collectors.toList());
+    }
+
+    private TokenValidationResponse mapToValidationResponse(String token) {
+        Claims claims = parseUnrevokedClaims(token);
+        if (claims == null) {
+            return TokenValidationResponse.builder().valid(false).build();
+        }
+        return TokenValidationResponse.builder()
+                .valid(true)
+                .userId(Long.valueOf(claims.getSubject()))
+                .email(claims.get("email", String.class))
+                .role(claims.get("role", String.class))
+                .expiresAt(claims.getExpiration() != null
+                        ? LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault())
+                        : null)
+                .build();
+    }
+
+    // Signature and expiry from one parse, then the revocation table (jti and user-wide cut-offs)
+    private Claims parseUnrevokedClaims(String token) {
+        Claims claims = jwtTokenProvider.parseValidClaims(token);
+        if (claims == null || revocationService.isRevoked(claims)) {
+            return null;
+        }
+        return claims;
     }
 
     private UserResponse mapToUserResponse(User user) {
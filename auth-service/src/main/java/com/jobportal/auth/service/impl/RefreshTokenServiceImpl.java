@@ -0,0 +1,136 @@
+package com.jobportal.auth.service.impl;
+
+import com.jobportal.auth.entity.RefreshToken;
+import com.jobportal.auth.entity.User;
+import com.jobportal.auth.exception.InvalidRefreshTokenException;
+import com.jobportal.auth.repository.RefreshTokenRepository;
+import com.jobportal.auth.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpirationMs;
+
+    // Tabs of one browser share a refresh token and may all present it when the access token
+    // expires; a reuse this soon after rotation is refused without revoking the family
+    @Value("${app.refresh-tokens.reuse-grace-ms:10000}")
+    private long reuseGraceMs;
+
+    @Override
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHashWithUser(hash(refreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.getRevoked() || stored.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("Refresh token expired or revoked");
+        }
+
+        if (refreshTokenRepository.markUsed(stored.getId(), now) == 0) {
+            // usedAt is still null here when a concurrent refresh won the race after this read
+            LocalDateTime usedAt = stored.getUsedAt();
+            if (usedAt == null || usedAt.isAfter(now.minus(reuseGraceMs, ChronoUnit.MILLIS))) {
+                throw new InvalidRefreshTokenException("Refresh token was just rotated by another request");
+            }
+            // Rotated a while ago: someone else holds this token, so nothing in its family can be trusted
+            refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            log.warn("Refresh token reuse detected for user {}; revoked token family {}",
+                    stored.getUser().getId(), stored.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+
+        User user = stored.getUser();
+        if (!Boolean.TRUE.equals(user.getEnabled())) {
+            refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            throw new InvalidRefreshTokenException("User account is disabled");
+        }
+
+        return new Rotation(user, issue(user, stored.getFamilyId()));
+    }
+
+    @Override
+    @Transactional
+    public void revoke(Long userId, String refreshToken) {
+        refreshTokenRepository.findByTokenHashWithUser(hash(refreshToken))
+                .filter(stored -> stored.getUser().getId().equals(userId))
+                .ifPresent(stored -> refreshTokenRepository.revokeFamily(stored.getFamilyId()));
+    }
+
+    // Holding the token is the credential, as for rotate(), so no user check is needed
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHashWithUser(hash(refreshToken))
+                .ifPresent(stored -> refreshTokenRepository.revokeFamily(stored.getFamilyId()));
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId);
+        log.info("Revoked {} refresh tokens of user {}", revoked, userId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.refresh-tokens.purge-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .user(user)
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(refreshExpirationMs, ChronoUnit.MILLIS))
+                .build());
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.jobportal.auth.service.impl;
+
+import com.jobportal.auth.dto.RevocationEntry;
+import com.jobportal.auth.dto.RevocationFeedResponse;
+import com.jobportal.auth.entity.TokenRevocation;
+import com.jobportal.auth.event.TokensRevokedEvent;
+import com.jobportal.auth.exception.BadRequestException;
+import com.jobportal.auth.repository.TokenRevocationRepository;
+import com.jobportal.auth.security.JwtTokenProvider;
+import com.jobportal.auth.service.RefreshTokenService;
+import com.jobportal.auth.service.RevocationService;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationServiceImpl implements RevocationService {
+
+    private final TokenRevocationRepository revocationRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${jwt.expiration}")
+    private Long jwtExpiration;
+
+    @Value("${app.revocations.feed-page-size:1000}")
+    private int feedPageSize;
+
+    @Override
+    @Transactional
+    public void revokeToken(Long userId, String token) {
+        Claims claims = jwtTokenProvider.parseValidClaims(token);
+        if (claims == null) {
+            // Already unusable, nothing to revoke
+            return;
+        }
+        if (!String.valueOf(userId).equals(claims.getSubject())) {
+            throw new BadRequestException("Token does not belong to the current user");
+        }
+        if (claims.getId() == null) {
+            // Issued before tokens carried an id; only a user-wide revocation can cover it
+            revokeAllForUser(userId);
+            return;
+        }
+
+        revocationRepository.save(TokenRevocation.builder()
+                .tokenId(claims.getId())
+                .userId(userId)
+                .expiresAt(LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()))
+                .build());
+        eventPublisher.publishEvent(new TokensRevokedEvent(userId));
+        log.info("Revoked token {} of user {}", claims.getId(), userId);
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        // Token iat has second precision, so the cut-off is truncated to match and compared
+        // inclusively: every token issued earlier in this second is covered. One issued later in
+        // the same second is refused too, which only delays a fresh login by under a second
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        revocationRepository.save(TokenRevocation.builder()
+                .userId(userId)
+                .notBefore(now)
+                .expiresAt(now.plus(jwtExpiration, ChronoUnit.MILLIS))
+                .build());
+        refreshTokenService.revokeAllForUser(userId);
+        eventPublisher.publishEvent(new TokensRevokedEvent(userId));
+        log.info("Revoked all tokens of user {}", userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RevocationFeedResponse getRevocationsAfter(Long afterId) {
+        List<TokenRevocation> revocations = revocationRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+                afterId, LocalDateTime.now(), PageRequest.of(0, feedPageSize));
+
+        List<RevocationEntry> entries = revocations.stream()
+                .map(this::mapToEntry)
+                .collect(Collectors.toList());
+
+        return RevocationFeedResponse.builder()
+                .entries(entries)
+                .lastId(revocations.isEmpty() ? afterId : revocations.get(revocations.size() - 1).getId())
+                .hasMore(revocations.size() == feedPageSize)
+                .build();
+    }
+
+    @Override
+    public Long getLatestRevocationId() {
+        return revocationRepository.findMaxId();
+    }
+
+    // Takes already-verified claims so callers parse each token once
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isRevoked(Claims claims) {
+        LocalDateTime issuedAt = claims.getIssuedAt() != null
+                ? LocalDateTime.ofInstant(claims.getIssuedAt().toInstant(), ZoneId.systemDefault())
+                : LocalDateTime.ofInstant(Instant.EPOCH, ZoneId.systemDefault());
+        return revocationRepository.isRevoked(Long.valueOf(claims.getSubject()), claims.getId(),
+                issuedAt, LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${app.revocations.purge-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = revocationRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired token revocations", purged);
+        }
+    }
+
+    private RevocationEntry mapToEntry(TokenRevocation revocation) {
+        return RevocationEntry.builder()
+                .id(revocation.getId())
+                .tokenId(revocation.getTokenId())
+                .userId(revocation.getUserId())
+                .notBefore(revocation.getNotBefore() != null ? toEpochMilli(revocation.getNotBefore()) : null)
+                .expiresAt(toEpochMilli(revocation.getExpiresAt()))
+                .build();
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -23,11 +23,12 @@ export const AuthProvider = ({ children }) => {
 
   const login = async (email, password) => {
     const response = await authAPI.login({ email, password });
-    const { token, userId, name, email: userEmail, role } = response.data;
+    const { token, refreshToken, userId, name, email: userEmail, role } = response.data;
     
     const userData = { userId, name, email: userEmail, role };
     
     localStorage.setItem('token', token);
+    localStorage.setItem('refreshToken', refreshToken);
     localStorage.setItem('user', JSON.stringify(userData));
     setUser(userData);
     
@@ -36,11 +37,12 @@ export const AuthProvider = ({ children }) => {
 
   const register = async (data) => {
     const response = await authAPI.register(data);
-    const { token, userId, name, email, role } = response.data;
+    const { token, refreshToken, userId, name, email, role } = response.data;
     
     const userData = { userId, name, email, role };
     
     localStorage.setItem('token', token);
+    localStorage.setItem('refreshToken', refreshToken);
     localStorage.setItem('user', JSON.stringify(userData));
     setUser(userData);
     
@@ -48,7 +50,18 @@ export const AuthProvider = ({ children }) => {
   };
 
   const logout = () => {
+    // Revoke both tokens server-side; the local session is cleared either way. The refresh token
+    // is revoked on its own so logout still works once the access token has expired.
+    const token = localStorage.getItem('token');
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (token) {
+      authAPI.logout(token).catch(() => {});
+    }
+    if (refreshToken) {
+      authAPI.revokeRefreshToken(refreshToken).catch(() => {});
+    }
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('user');
     setUser(null);
   };
@@ -16,7 +16,12 @@ const Messages = () => {
   const [loading, setLoading] = useState(true);
   const [sending, setSending] = useState(false);
   const [searchTerm, setSearchTerm] = useState('');
+  // Keyset cursor for the next older page; null once the start of the thread is loaded
+  const [olderCursor, setOlderCursor] = useState(null);
+  const [loadingOlder, setLoadingOlder] = useState(false);
   const messagesEndRef = useRef(null);
+  const selectedConversationRef = useRef(null);
+  const skipScrollRef = useRef(false);
 
   useEffect(() => {
     fetchConversations();
@@ -30,6 +35,30 @@ const Messages = () => {
   }, []);
 
   useEffect(() => {
+    selectedConversationRef.current = selectedConversation;
+  }, [selectedConversation]);
+
+  // New messages arrive over the push stream instead of being polled for
+  useEffect(() => {
+    const unsubscribe = messagesAPI.subscribeToMessages((message) => {
+      const current = selectedConversationRef.current;
+      if (current && (message.senderId === current.id || message.receiverId === current.id)) {
+        setMessages((prev) => (prev.some((m) => m.id === message.id) ? prev : [...prev, message]));
+      }
+      // Refresh previews and unread badges without the full-page spinner
+      messagesAPI.getConversations()
+        .then((response) => setConversations(response.data))
+        .catch(() => {});
+    });
+    return unsubscribe;
+  }, []);
+
+  useEffect(() => {
+    // Older pages go on top; stay where the user was reading
+    if (skipScrollRef.current) {
+      skipScrollRef.current = false;
+      return;
+    }
     scrollToBottom();
   }, [messages]);
 
@@ -55,15 +84,43 @@ const Messages = () => {
     }
   };
 
+  // Only the latest page; older messages are fetched on demand
   const fetchMessages = async (conversationId) => {
+    setOlderCursor(null);
     try {
-      const response = await messagesAPI.getMessages(conversationId);
-      setMessages(response.data);
+      const response = await messagesAPI.getConversationHistory(conversationId);
+      if (selectedConversationRef.current && selectedConversationRef.current.id !== conversationId) {
+        return;
+      }
+      setMessages(response.data.messages);
+      setOlderCursor(response.data.hasMore ? response.data.nextCursor : null);
     } catch (error) {
       toast.error('Error fetching messages');
     }
   };
 
+  const loadOlderMessages = async () => {
+    const conversationId = selectedConversation?.id;
+    if (!conversationId || olderCursor == null || loadingOlder) return;
+
+    setLoadingOlder(true);
+    try {
+      const response = await messagesAPI.getConversationHistory(conversationId, olderCursor);
+      // The user may have switched conversations meanwhile
+      if (selectedConversationRef.current?.id !== conversationId) return;
+      skipScrollRef.current = true;
+      setMessages((prev) => {
+        const loaded = new Set(prev.map((m) => m.id));
+        return [...response.data.messages.filter((m) => !loaded.has(m.id)), ...prev];
+      });
+      setOlderCursor(response.data.hasMore ? response.data.nextCursor : null);
+    } catch (error) {
+      toast.error('Error loading older messages');
+    } finally {
+      setLoadingOlder(false);
+    }
+  };
+
   const handleStartConversation = async (userId) => {
     try {
       const response = await messagesAPI.startConversation(userId);
@@ -86,12 +143,14 @@ const Messages = () => {
 
     setSending(true);
     try {
-      await messagesAPI.sendMessage({
+      const response = await messagesAPI.sendMessage({
         conversationId: selectedConversation.id,
         content: newMessage.trim()
       });
       setNewMessage('');
-      fetchMessages(selectedConversation.id);
+      // Appended rather than refetched, so older pages already loaded stay in place
+      const sent = response.data;
+      setMessages((prev) => (prev.some((m) => m.id === sent.id) ? prev : [...prev, sent]));
       fetchConversations(); // Update last message in conversation list
     } catch (error) {
       toast.error('Error sending message');
@@ -195,6 +254,16 @@ const Messages = () => {
                 </div>
 
                 <div className="messages-list">
+                  {olderCursor != null && (
+                    <button
+                      type="button"
+                      className="load-older"
+                      onClick={loadOlderMessages}
+                      disabled={loadingOlder}
+                    >
+                      {loadingOlder ? 'Loading...' : 'Load older messages'}
+                    </button>
+                  )}
                   {messages.length === 0 ? (
                     <div className="empty-messages">
                       <p>No messages yet. Start the conversation!</p>
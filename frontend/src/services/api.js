@@ -23,27 +23,129 @@ api.interceptors.request.use(
   }
 );
 
+const clearSession = () => {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+  localStorage.removeItem('user');
+  window.location.href = '/login';
+};
+
+// Concurrent 401s share one refresh call: each refresh token is only accepted once. Other tabs
+// share the token through localStorage, so the rotation also holds a cross-tab lock and skips the
+// call when another tab has already rotated the token this one was about to present.
+let refreshPromise = null;
+
+const REFRESH_LOCK = 'jobportal-refresh-token';
+
+const refreshAccessToken = () => {
+  if (!refreshPromise) {
+    const presented = localStorage.getItem('refreshToken');
+    const rotatedElsewhere = () => {
+      const current = localStorage.getItem('refreshToken');
+      return current && current !== presented;
+    };
+
+    const rotate = () => {
+      if (rotatedElsewhere()) {
+        return localStorage.getItem('token');
+      }
+      return axios
+        .post(`${API_BASE_URL}/api/auth/refresh`, { refreshToken: presented })
+        .then(({ data }) => {
+          localStorage.setItem('token', data.token);
+          localStorage.setItem('refreshToken', data.refreshToken);
+          return data.token;
+        });
+    };
+
+    refreshPromise = (navigator.locks ? navigator.locks.request(REFRESH_LOCK, rotate) : rotate())
+      .catch((error) => {
+        // Without Web Locks another tab can win the race; its new token is already stored
+        if (rotatedElsewhere()) {
+          return localStorage.getItem('token');
+        }
+        throw error;
+      })
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
 // Response interceptor to handle errors
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
+    const original = error.config;
     if (error.response?.status === 401) {
-      localStorage.removeItem('token');
-      localStorage.removeItem('user');
-      window.location.href = '/login';
+      // Access tokens are short-lived: renew once and replay the request before giving up
+      if (original && !original._retried && localStorage.getItem('refreshToken')) {
+        original._retried = true;
+        try {
+          const token = await refreshAccessToken();
+          original.headers.Authorization = `Bearer ${token}`;
+          return api(original);
+        } catch (refreshError) {
+          clearSession();
+          return Promise.reject(refreshError);
+        }
+      }
+      clearSession();
     }
     return Promise.reject(error);
   }
 );
 
+const MESSAGE_STREAM_RETRY_MS = 3000;
+
+// Server-sent "message" events replace polling. EventSource cannot set headers, hence the query
+// token; its built-in retry would keep presenting an expired one, so every reconnect first makes
+// an ordinary call that lets the 401 interceptor renew the access token. Returns an unsubscribe.
+const subscribeToMessages = (onMessage) => {
+  let source = null;
+  let retryTimer = null;
+  let closed = false;
+
+  const connect = () => {
+    const token = encodeURIComponent(localStorage.getItem('token'));
+    source = new EventSource(`${API_BASE_URL}/api/messages/stream?access_token=${token}`);
+    source.addEventListener('message', (event) => onMessage(JSON.parse(event.data)));
+    source.onerror = () => {
+      source.close();
+      if (closed) return;
+      retryTimer = setTimeout(() => {
+        api.get('/api/messages/unread-count')
+          .catch(() => {})
+          .finally(() => {
+            if (!closed) connect();
+          });
+      }, MESSAGE_STREAM_RETRY_MS);
+    };
+  };
+
+  connect();
+  return () => {
+    closed = true;
+    clearTimeout(retryTimer);
+    source.close();
+  };
+};
+
 // Auth API
 export const authAPI = {
   register: (data) => api.post('/api/auth/register', data),
   login: (data) => api.post('/api/auth/login', data),
+  // Both bypass the interceptors: an expired access token at logout must not trigger a refresh or a
+  // redirect. Tokens are passed explicitly because they are cleared from storage right away.
+  logout: (token) =>
+    axios.post(`${API_BASE_URL}/api/auth/logout`, null, { headers: { Authorization: `Bearer ${token}` } }),
+  revokeRefreshToken: (refreshToken) =>
+    axios.post(`${API_BASE_URL}/api/auth/refresh/revoke`, { refreshToken }),
+  logoutAll: () => api.post('/api/auth/logout-all'),
   getMe: () => api.get('/api/auth/me'),
   getProfile: () => api.get('/api/auth/me'),
   updateProfile: (data) => api.put('/api/auth/me', data),
-  getUserById: (userId) => api.get(`/api/auth/users/${userId}`),
 };
 
 // Jobs API
@@ -94,6 +196,10 @@ export const applicationsAPI = {
     api.get('/api/applications/my-applications', { params }),
   getEmployerApplications: (params) => 
     api.get('/api/applications/employer/applications', { params }),
+  getEmployerStats: () =>
+    api.get('/api/applications/employer/stats'),
+  exportApplications: (params) =>
+    api.get('/api/applications/employer/export', { params, responseType: 'blob' }),
   getApplicationsForJob: (jobId, params) => 
     api.get(`/api/applications/job/${jobId}`, { params }),
   getApplicationsByJob: (jobId, params) => 
@@ -102,12 +208,17 @@ export const applicationsAPI = {
     api.get(`/api/applications/${id}`),
   updateApplicationStatus: (id, status) => 
     api.put(`/api/applications/${id}/status`, { status }),
+  updateApplicationStatuses: (applicationIds, status) =>
+    api.put('/api/applications/status/bulk', { applicationIds, status }),
   updateApplication: (id, data) => 
     api.put(`/api/applications/${id}`, data),
   withdrawApplication: (id) => 
     api.delete(`/api/applications/${id}/withdraw`),
   checkIfApplied: (jobId) => 
     api.get(`/api/applications/check/${jobId}`),
+  // Answers a whole page of jobs at once: { [jobId]: boolean }
+  checkIfAppliedToJobs: (jobIds) =>
+    api.post('/api/applications/check', { jobIds }),
   getApplicationsByStatus: (status, params) => 
     api.get(`/api/applications/status/${status}`, { params }),
   sendInterviewEmail: (applicationId, data) =>
@@ -120,10 +231,9 @@ export const applicationsAPI = {
 export const messagesAPI = {
   sendMessage: (data) => 
     api.post('/api/messages', data),
-  getMessages: (conversationId) => 
-    api.get(`/api/messages/conversation/${conversationId}`),
-  getConversation: (partnerId) => 
-    api.get(`/api/messages/conversation/${partnerId}`),
+  // Latest page first; pass the returned nextCursor as `before` to scroll back
+  getConversationHistory: (partnerId, before, limit = 30) =>
+    api.get(`/api/messages/conversation/${partnerId}/history`, { params: { before, limit } }),
   getConversations: () => 
     api.get('/api/messages/conversations'),
   startConversation: (userId) => 
@@ -134,6 +244,7 @@ export const messagesAPI = {
     api.post(`/api/messages/mark-read/${senderId}`),
   getMessagesByApplication: (applicationId, page = 0, size = 50) => 
     api.get(`/api/messages/application/${applicationId}?page=${page}&size=${size}`),
+  subscribeToMessages,
 };
 
 export default api;
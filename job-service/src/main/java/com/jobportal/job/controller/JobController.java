@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -69,11 +70,24 @@ public class JobController {
     @GetMapping("/{jobId}")
     public ResponseEntity<JobResponse> getJobById(
             @PathVariable(name = "jobId") Long jobId,
-            @RequestHeader(name = "X-User-Id", required = false) Long userId) {
+            @RequestHeader(name = "X-User-Id", required = false) Long userId,
+            WebRequest webRequest) {
         
         log.info("Get job by id: {}", jobId);
         jobService.incrementViewCount(jobId);
+        // Revalidation still counts as a view; the job itself is only loaded when it changed
+        String etag = jobService.getJobEtag(jobId, userId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         JobResponse response = jobService.getJobById(jobId, userId);
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<JobSummaryResponse>> getJobsByIds(@Valid @RequestBody JobBatchRequest request) {
+        log.info("Batch job lookup for {} ids", request.getJobIds().size());
+        List<JobSummaryResponse> response = jobService.getJobsByIds(request.getJobIds());
         return ResponseEntity.ok(response);
     }
 
@@ -82,15 +96,20 @@ public class JobController {
             @RequestHeader(name = "X-User-Id") Long userId,
             @RequestHeader(name = "X-User-Role") String userRole,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            WebRequest webRequest) {
         
         if (!"EMPLOYER".equals(userRole)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
         
         log.info("Get jobs for employer: {}", userId);
+        String etag = jobService.getEmployerJobsEtag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         PagedResponse<JobResponse> response = jobService.getJobsByEmployer(userId, page, size);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @GetMapping("/search")
@@ -103,10 +122,16 @@ public class JobController {
             @RequestParam(name = "size", defaultValue = "10") int size,
             @RequestParam(name = "sortBy", defaultValue = "createdAt") String sortBy,
             @RequestParam(name = "sortDirection", defaultValue = "DESC") String sortDirection,
-            @RequestHeader(name = "X-User-Id", required = false) Long userId) {
+            @RequestHeader(name = "X-User-Id", required = false) Long userId,
+            WebRequest webRequest) {
         
         log.info("Search jobs with keyword: {}, location: {}", keyword, location);
         
+        String etag = jobService.getCatalogEtag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        
         JobSearchRequest request = JobSearchRequest.builder()
                 .keyword(keyword)
                 .location(location)
@@ -119,39 +144,64 @@ public class JobController {
                 .build();
         
         PagedResponse<JobResponse> response = jobService.searchJobs(request, userId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @GetMapping("/public/active")
     public ResponseEntity<PagedResponse<JobResponse>> getActiveJobs(
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "10") int size,
-            @RequestHeader(name = "X-User-Id", required = false) Long userId) {
+            @RequestHeader(name = "X-User-Id", required = false) Long userId,
+            WebRequest webRequest) {
         
         log.info("Get active jobs, page: {}, size: {}", page, size);
+        String etag = jobService.getCatalogEtag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         PagedResponse<JobResponse> response = jobService.getActiveJobs(page, size, userId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @GetMapping("/public/latest")
     public ResponseEntity<List<JobResponse>> getLatestJobs(
-            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            WebRequest webRequest) {
         
         log.info("Get latest {} jobs", limit);
+        String etag = jobService.getCatalogEtag(null);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<JobResponse> response = jobService.getLatestJobs(limit);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @GetMapping("/public/locations")
-    public ResponseEntity<List<String>> getAllLocations() {
+    public ResponseEntity<List<String>> getAllLocations(WebRequest webRequest) {
+        String etag = jobService.getCatalogEtag(null);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<String> locations = jobService.getAllLocations();
-        return ResponseEntity.ok(locations);
+        return ResponseEntity.ok().eTag(etag).body(locations);
     }
 
     @GetMapping("/public/skills")
-    public ResponseEntity<List<String>> getAllSkills() {
+    public ResponseEntity<List<String>> getAllSkills(WebRequest webRequest) {
+        String etag = jobService.getCatalogEtag(null);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<String> skills = jobService.getAllSkills();
-        return ResponseEntity.ok(skills);
+        return ResponseEntity.ok().eTag(etag).body(skills);
+    }
+
+    // Used by application-service to rank applicants; unlike GET /{jobId} it does not count as a view
+    @GetMapping("/{jobId}/requirements")
+    public ResponseEntity<JobRequirementsResponse> getJobRequirements(@PathVariable(name = "jobId") Long jobId) {
+        JobRequirementsResponse response = jobService.getJobRequirements(jobId);
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/{jobId}/increment-applications")
@@ -0,0 +1,19 @@
+package com.jobportal.job.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBatchRequest {
+
+    @NotEmpty(message = "At least one job ID is required")
+    private List<Long> jobIds;
+}
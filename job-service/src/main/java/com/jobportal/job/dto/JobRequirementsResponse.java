@@ -0,0 +1,20 @@
+package com.jobportal.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRequirementsResponse {
+    private Long id;
+    private List<String> skills;
+    private String requirements;
+    private LocalDateTime updatedAt;
+}
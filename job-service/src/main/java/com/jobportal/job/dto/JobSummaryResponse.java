@@ -0,0 +1,23 @@
+package com.jobportal.job.dto;
+
+import com.jobportal.job.entity.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Field order matters: JobRepository builds this through a JPQL constructor expression
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummaryResponse {
+    private Long id;
+    private String title;
+    private String companyName;
+    private Long employerId;
+    private JobStatus status;
+    private LocalDateTime updatedAt;
+}
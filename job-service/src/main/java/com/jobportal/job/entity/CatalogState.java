@@ -0,0 +1,26 @@
+package com.jobportal.job.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Single row whose generation is bumped by every job create, update and delete. List
+// responses use it as their validator, so a conditional GET costs one primary-key read.
+@Entity
+@Table(name = "catalog_state")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogState {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long generation;
+}
@@ -14,7 +14,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_employer_id", columnList = "employer_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -84,6 +86,12 @@ public class Job {
     @Column(name = "applications_count")
     private Integer applicationsCount = 0;
 
+    // Part of the job's ETag. View and application counters are bumped with bulk updates that
+    // skip it, so they do not invalidate cached copies.
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,25 @@
+package com.jobportal.job.repository;
+
+import com.jobportal.job.entity.CatalogState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogStateRepository extends JpaRepository<CatalogState, Integer> {
+
+    @Modifying
+    @Query(value = "INSERT INTO catalog_state (id, generation) VALUES (1, 0) ON CONFLICT (id) DO NOTHING",
+           nativeQuery = true)
+    void ensureExists();
+
+    @Query("SELECT c.generation FROM CatalogState c WHERE c.id = 1")
+    Optional<Long> findGeneration();
+
+    @Modifying
+    @Query("UPDATE CatalogState c SET c.generation = c.generation + 1 WHERE c.id = 1")
+    int bumpGeneration();
+}
@@ -4,6 +4,8 @@ import com.jobportal.job.entity.FavoriteJob;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,4 +20,15 @@ public interface FavoriteJobRepository extends JpaRepository<FavoriteJob, Long>
     boolean existsByUserIdAndJobId(Long userId, Long jobId);
     
     void deleteByUserIdAndJobId(Long userId, Long jobId);
+
+    // Favorites are only added and removed, and ids only grow, so count and max id together
+    // change whenever a user's favorites do
+    @Query("SELECT COUNT(f) AS favoriteCount, COALESCE(MAX(f.id), 0) AS lastFavoriteId " +
+           "FROM FavoriteJob f WHERE f.userId = :userId")
+    FavoritesVersion findFavoritesVersion(@Param("userId") Long userId);
+
+    interface FavoritesVersion {
+        Long getFavoriteCount();
+        Long getLastFavoriteId();
+    }
 }
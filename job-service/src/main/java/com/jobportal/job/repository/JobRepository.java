@@ -1,16 +1,21 @@
 package com.jobportal.job.repository;
 
+import com.jobportal.job.dto.JobSummaryResponse;
 import com.jobportal.job.entity.Job;
 import com.jobportal.job.entity.JobStatus;
 import com.jobportal.job.entity.JobType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
@@ -60,4 +65,40 @@ public interface JobRepository extends JpaRepository<Job, Long> {
 
     @Query("SELECT DISTINCT s FROM Job j JOIN j.skills s WHERE j.status = 'ACTIVE'")
     List<String> findAllSkills();
+
+    @Query("SELECT new com.jobportal.job.dto.JobSummaryResponse(j.id, j.title, j.companyName, j.employerId, j.status, j.updatedAt) " +
+           "FROM Job j WHERE j.id IN :ids")
+    List<JobSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT j.version AS version, j.updatedAt AS updatedAt FROM Job j WHERE j.id = :id")
+    Optional<JobVersion> findVersionById(@Param("id") Long id);
+
+    // The counters move through the bulk increments below, which touch neither version nor the
+    // catalog generation, so list ETags fold these sums in
+    @Query("SELECT COALESCE(SUM(j.viewsCount), 0) AS views, COALESCE(SUM(j.applicationsCount), 0) AS applications " +
+           "FROM Job j WHERE j.employerId = :employerId")
+    EmployerCounters findCountersByEmployerId(@Param("employerId") Long employerId);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.viewsCount = COALESCE(j.viewsCount, 0) + 1 WHERE j.id = :id")
+    int incrementViewCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.applicationsCount = COALESCE(j.applicationsCount, 0) + 1 WHERE j.id = :id")
+    int incrementApplicationCount(@Param("id") Long id);
+
+    // Rows created before jobs were versioned
+    @Modifying
+    @Query(value = "UPDATE jobs SET version = 0 WHERE version IS NULL", nativeQuery = true)
+    int backfillVersions();
+
+    interface JobVersion {
+        Long getVersion();
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface EmployerCounters {
+        Long getViews();
+        Long getApplications();
+    }
 }
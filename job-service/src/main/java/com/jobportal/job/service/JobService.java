@@ -9,6 +9,8 @@ public interface JobService {
     JobResponse updateJob(Long jobId, UpdateJobRequest request, Long employerId);
     void deleteJob(Long jobId, Long employerId);
     JobResponse getJobById(Long jobId, Long userId);
+    List<JobSummaryResponse> getJobsByIds(List<Long> jobIds);
+    JobRequirementsResponse getJobRequirements(Long jobId);
     PagedResponse<JobResponse> getJobsByEmployer(Long employerId, int page, int size);
     PagedResponse<JobResponse> searchJobs(JobSearchRequest request, Long userId);
     PagedResponse<JobResponse> getActiveJobs(int page, int size, Long userId);
@@ -17,4 +19,7 @@ public interface JobService {
     List<String> getAllSkills();
     void incrementViewCount(Long jobId);
     void incrementApplicationCount(Long jobId);
+    String getJobEtag(Long jobId, Long userId);
+    String getCatalogEtag(Long userId);
+    String getEmployerJobsEtag(Long employerId);
 }
@@ -3,13 +3,21 @@ package com.jobportal.job.service.impl;
 import com.jobportal.job.dto.*;
 import com.jobportal.job.entity.Job;
 import com.jobportal.job.entity.JobStatus;
+import com.jobportal.job.exception.BadRequestException;
 import com.jobportal.job.exception.ResourceNotFoundException;
 import com.jobportal.job.exception.UnauthorizedException;
+import com.jobportal.job.repository.CatalogStateRepository;
 import com.jobportal.job.repository.FavoriteJobRepository;
+import com.jobportal.job.repository.FavoriteJobRepository.FavoritesVersion;
 import com.jobportal.job.repository.JobRepository;
+import com.jobportal.job.repository.JobRepository.EmployerCounters;
+import com.jobportal.job.repository.JobRepository.JobVersion;
 import com.jobportal.job.service.JobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +25,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,6 +37,20 @@ public class JobServiceImpl implements JobService {
 
     private final JobRepository jobRepository;
     private final FavoriteJobRepository favoriteJobRepository;
+    private final CatalogStateRepository catalogStateRepository;
+
+    @Value("${app.jobs.batch-max-size:100}")
+    private int batchMaxSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initCatalogState() {
+        catalogStateRepository.ensureExists();
+        int backfilled = jobRepository.backfillVersions();
+        if (backfilled > 0) {
+            log.info("Backfilled version for {} jobs", backfilled);
+        }
+    }
 
     @Override
     @Transactional
@@ -55,6 +79,7 @@ public class JobServiceImpl implements JobService {
                 .build();
 
         Job savedJob = jobRepository.save(job);
+        catalogStateRepository.bumpGeneration();
         log.info("Job created successfully with id: {}", savedJob.getId());
 
         return mapToJobResponse(savedJob, null);
@@ -86,6 +111,7 @@ public class JobServiceImpl implements JobService {
         if (request.getApplicationDeadline() != null) job.setApplicationDeadline(request.getApplicationDeadline());
 
         Job updatedJob = jobRepository.save(job);
+        catalogStateRepository.bumpGeneration();
         log.info("Job updated successfully: {}", updatedJob.getId());
 
         return mapToJobResponse(updatedJob, null);
@@ -104,6 +130,7 @@ public class JobServiceImpl implements JobService {
         // Soft delete - set status to INACTIVE instead of removing from database
         job.setStatus(JobStatus.INACTIVE);
         jobRepository.save(job);
+        catalogStateRepository.bumpGeneration();
         log.info("Job deactivated successfully: {}", jobId);
     }
 
@@ -120,6 +147,29 @@ public class JobServiceImpl implements JobService {
         return mapToJobResponse(job, isFavorite);
     }
 
+    @Override
+    public List<JobSummaryResponse> getJobsByIds(List<Long> jobIds) {
+        List<Long> distinctIds = jobIds.stream().distinct().collect(Collectors.toList());
+        if (distinctIds.size() > batchMaxSize) {
+            throw new BadRequestException("At most " + batchMaxSize + " job IDs can be requested at once");
+        }
+        return jobRepository.findSummariesByIdIn(distinctIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JobRequirementsResponse getJobRequirements(Long jobId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
+
+        return JobRequirementsResponse.builder()
+                .id(job.getId())
+                .skills(new ArrayList<>(job.getSkills()))
+                .requirements(job.getRequirements())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+
     @Override
     public PagedResponse<JobResponse> getJobsByEmployer(Long employerId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
@@ -183,22 +233,69 @@ public class JobServiceImpl implements JobService {
         return jobRepository.findAllSkills();
     }
 
+    // Counters are bulk updates so they leave version and updatedAt, and with them every ETag, alone
     @Override
     @Transactional
     public void incrementViewCount(Long jobId) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
-        job.setViewsCount(job.getViewsCount() + 1);
-        jobRepository.save(job);
+        if (jobRepository.incrementViewCount(jobId) == 0) {
+            throw new ResourceNotFoundException("Job not found with id: " + jobId);
+        }
     }
 
     @Override
     @Transactional
     public void incrementApplicationCount(Long jobId) {
-        Job job = jobRepository.findById(jobId)
+        if (jobRepository.incrementApplicationCount(jobId) == 0) {
+            throw new ResourceNotFoundException("Job not found with id: " + jobId);
+        }
+    }
+
+    // Weak: the version and updatedAt cover every edit and the favorite flag covers the caller,
+    // but viewsCount and applicationsCount move through bulk UPDATEs that bump neither. Folding
+    // them in would change the tag on every view, so a revalidated body may show stale counters.
+    @Override
+    public String getJobEtag(Long jobId, Long userId) {
+        JobVersion version = jobRepository.findVersionById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
-        job.setApplicationsCount(job.getApplicationsCount() + 1);
-        jobRepository.save(job);
+
+        long updatedAt = version.getUpdatedAt() != null
+                ? version.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : 0;
+        StringBuilder etag = new StringBuilder("W/\"")
+                .append(jobId).append('-')
+                .append(version.getVersion() != null ? version.getVersion() : 0).append('-')
+                .append(updatedAt);
+        if (userId != null) {
+            etag.append("-f").append(favoriteJobRepository.existsByUserIdAndJobId(userId, jobId) ? 1 : 0);
+        }
+        return etag.append('"').toString();
+    }
+
+    // Weak: lists change whenever any job is written, which the catalog generation tracks.
+    // Favorite flags are per user, so signed-in callers also get their favorites' version.
+    @Override
+    public String getCatalogEtag(Long userId) {
+        StringBuilder etag = new StringBuilder("W/\"g").append(currentGeneration());
+        if (userId != null) {
+            FavoritesVersion favorites = favoriteJobRepository.findFavoritesVersion(userId);
+            etag.append("-u").append(userId)
+                    .append('-').append(favorites.getFavoriteCount())
+                    .append('-').append(favorites.getLastFavoriteId());
+        }
+        return etag.append('"').toString();
+    }
+
+    // The generation covers edits; the counter sums cover views and applications, which the
+    // my-jobs body shows and which change without bumping it
+    @Override
+    public String getEmployerJobsEtag(Long employerId) {
+        EmployerCounters counters = jobRepository.findCountersByEmployerId(employerId);
+        return "W/\"g" + currentGeneration() + "-e" + employerId
+                + "-v" + counters.getViews() + "-a" + counters.getApplications() + "\"";
+    }
+
+    private long currentGeneration() {
+        return catalogStateRepository.findGeneration().orElse(0L);
     }
 
     private JobResponse mapToJobResponse(Job job, Boolean isFavorite) {